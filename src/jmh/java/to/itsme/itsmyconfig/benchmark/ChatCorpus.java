@@ -0,0 +1,183 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import org.bukkit.entity.Player;
+import sun.misc.Unsafe;
+import to.itsme.itsmyconfig.ItsMyConfig;
+import to.itsme.itsmyconfig.component.AbstractComponent;
+import to.itsme.itsmyconfig.util.Strings;
+import to.itsme.itsmyconfig.util.TemplateCache;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the chat messages the benchmarks run over, read from {@code chat-corpus.jsonl}.
+ * <br>
+ * Every line is the JSON of a chat packet, as sent by the server.
+ * The corpus has no {@code <p>}, {@code <papi>} nor argument tags, those need a running server and PlaceholderAPI.
+ * The plugin is never enabled, {@link #stubPlugin(int)} installs an instance holding only what the pipeline reads.
+ */
+final class ChatCorpus {
+
+    /**
+     * Represents the default symbol prefix, which the messages meant for the plugin start with.
+     */
+    static final String PREFIX = "$";
+
+    private static final String RESOURCE = "/chat-corpus.jsonl";
+
+    private static ItsMyConfig plugin;
+
+    static {
+        // unparsable messages are logged in debug mode, which reads the plugin
+        stubPlugin(0);
+    }
+
+    private ChatCorpus() {
+    }
+
+    /**
+     * Installs a plugin instance without running its constructor, holding the symbol prefix and a template cache.
+     * <br>
+     * Classes keep the instance once initialized, so the same instance is reused and only its template cache is replaced.
+     *
+     * @param templateCacheSize The maximum amount of cached templates, 0 disables caching.
+     * @return the plugin instance.
+     */
+    static synchronized ItsMyConfig stubPlugin(final int templateCacheSize) {
+        try {
+            if (plugin == null) {
+                final Field unsafe = Unsafe.class.getDeclaredField("theUnsafe");
+                unsafe.setAccessible(true);
+                plugin = (ItsMyConfig) ((Unsafe) unsafe.get(null)).allocateInstance(ItsMyConfig.class);
+                setField(null, "instance", plugin);
+                setField(plugin, "symbolPrefix", PREFIX);
+            }
+            setField(plugin, "templateCache", new TemplateCache(templateCacheSize));
+            return plugin;
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not stub the plugin", e);
+        }
+    }
+
+    private static void setField(
+            final ItsMyConfig instance,
+            final String name,
+            final Object value
+    ) throws ReflectiveOperationException {
+        final Field field = ItsMyConfig.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+
+    /**
+     * Reads the JSON of every message of the corpus.
+     *
+     * @return the messages, in the order of the corpus.
+     */
+    static String[] json() {
+        final List<String> messages = new ArrayList<>();
+        try (final InputStream stream = ChatCorpus.class.getResourceAsStream(RESOURCE);
+             final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    messages.add(line);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return messages.toArray(new String[0]);
+    }
+
+    /**
+     * Converts every message of the corpus to MiniMessage, as the chat listener does before removing the symbol prefix.
+     *
+     * @return the MiniMessage texts, still holding the symbol prefix and '§' colors.
+     */
+    static String[] packetText() {
+        final String[] json = json();
+        final String[] texts = new String[json.length];
+        for (int i = 0; i < json.length; i++) {
+            texts[i] = AbstractComponent.parse(json[i]).toMiniMessage();
+        }
+        return texts;
+    }
+
+    /**
+     * Converts every message of the corpus to MiniMessage and removes the symbol prefix, as the chat listener does before translating.
+     *
+     * @return the MiniMessage texts, in the order of the corpus.
+     */
+    static String[] miniMessage() {
+        final String[] texts = packetText();
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = Strings.processMessage(texts[i], PREFIX);
+        }
+        return texts;
+    }
+
+    /**
+     * Creates a player whose methods do nothing, returning null, false or 0.
+     *
+     * @return the player.
+     */
+    static Player player() {
+        final UUID uniqueId = UUID.fromString("8667ba71-b85a-4004-af54-457a9734eed7");
+        return (Player) Proxy.newProxyInstance(
+                Player.class.getClassLoader(),
+                new Class<?>[]{Player.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUniqueId":
+                            return uniqueId;
+                        case "getName":
+                        case "getDisplayName":
+                            return "Steve";
+                        case "isOnline":
+                            return true;
+                        case "hashCode":
+                            return uniqueId.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Player{Steve}";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                }
+        );
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+}
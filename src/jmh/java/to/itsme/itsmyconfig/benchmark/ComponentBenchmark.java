@@ -0,0 +1,57 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import to.itsme.itsmyconfig.component.AbstractComponent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of chat JSON into components and their conversion to MiniMessage, one message per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ComponentBenchmark {
+
+    private String[] json;
+    private AbstractComponent[] components;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.json = ChatCorpus.json();
+        this.components = new AbstractComponent[this.json.length];
+        for (int i = 0; i < this.json.length; i++) {
+            this.components[i] = AbstractComponent.parse(this.json[i]);
+        }
+    }
+
+    @Benchmark
+    public AbstractComponent parse() {
+        return AbstractComponent.parse(this.json[this.next()]);
+    }
+
+    @Benchmark
+    public String toMiniMessage() {
+        return this.components[this.next()].toMiniMessage();
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.json.length ? 0 : current + 1;
+        return current;
+    }
+
+}
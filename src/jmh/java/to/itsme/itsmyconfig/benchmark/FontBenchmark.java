@@ -0,0 +1,60 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import to.itsme.itsmyconfig.font.Font;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying the small caps font to texts and component trees, one message per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FontBenchmark {
+
+    private String[] texts;
+    private Component[] components;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.texts = ChatCorpus.miniMessage();
+        final String[] json = ChatCorpus.json();
+        this.components = new Component[json.length];
+        for (int i = 0; i < json.length; i++) {
+            this.components[i] = GsonComponentSerializer.gson().deserialize(json[i]);
+        }
+    }
+
+    @Benchmark
+    public String applyText() {
+        return Font.SMALL_CAPS.apply(this.texts[this.next()]);
+    }
+
+    @Benchmark
+    public Component applyComponent() {
+        return Font.SMALL_CAPS.apply(this.components[this.next()]);
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.texts.length ? 0 : current + 1;
+        return current;
+    }
+
+}
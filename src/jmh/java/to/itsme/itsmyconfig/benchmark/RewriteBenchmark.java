@@ -0,0 +1,87 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import to.itsme.itsmyconfig.ItsMyConfig;
+import to.itsme.itsmyconfig.component.AbstractComponent;
+import to.itsme.itsmyconfig.component.ComponentRewriter;
+import to.itsme.itsmyconfig.util.Strings;
+import to.itsme.itsmyconfig.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two ways the chat listener renders a prefixed message, one message per operation.
+ * <br>
+ * {@link #rewrite()} translates the text nodes of the packet's component in place,
+ * {@link #miniMessage()} parses the JSON, converts it to MiniMessage and translates the whole text, as the listener falls back to.
+ * Only the messages the rewriter can handle are measured, so both run over the same messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RewriteBenchmark {
+
+    @Param({"0", "1024"})
+    public int templateCacheSize;
+
+    private ItsMyConfig plugin;
+    private String[] json;
+    private Component[] components;
+    private Player player;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.plugin = ChatCorpus.stubPlugin(this.templateCacheSize);
+        this.player = ChatCorpus.player();
+
+        final List<String> json = new ArrayList<>();
+        final List<Component> components = new ArrayList<>();
+        for (final String message : ChatCorpus.json()) {
+            final Component component = GsonComponentSerializer.gson().deserialize(message);
+            if (ComponentRewriter.rewrite(component, ChatCorpus.PREFIX, this.player) != null) {
+                json.add(message);
+                components.add(component);
+            }
+        }
+
+        this.json = json.toArray(new String[0]);
+        this.components = components.toArray(new Component[0]);
+    }
+
+    @Benchmark
+    public ComponentRewriter.Rewritten rewrite() {
+        return ComponentRewriter.rewrite(this.components[this.next()], ChatCorpus.PREFIX, this.player);
+    }
+
+    @Benchmark
+    public Component miniMessage() {
+        final String text = AbstractComponent.parse(this.json[this.next()]).toMiniMessage();
+        return Utilities.translate(this.plugin.getTemplateCache().get(Strings.processMessage(text, ChatCorpus.PREFIX)), this.player);
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.json.length ? 0 : current + 1;
+        return current;
+    }
+
+}
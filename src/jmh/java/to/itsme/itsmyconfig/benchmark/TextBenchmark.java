@@ -0,0 +1,84 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import to.itsme.itsmyconfig.tag.TagManager;
+import to.itsme.itsmyconfig.util.Strings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the text passes run on every message before MiniMessage parses it, one message per operation.
+ * <br>
+ * The baselines are the regex chains the scanners replaced, run over the same messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TextBenchmark {
+
+    private static final Pattern COLOR_SYMBOL_PATTERN = Pattern.compile(Pattern.quote("§"));
+    private static final Pattern SYMBOL_PREFIX_PATTERN = Pattern.compile(Pattern.quote(ChatCorpus.PREFIX));
+
+    private String[] packetTexts;
+    private String[] texts;
+    private Player player;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.packetTexts = ChatCorpus.packetText();
+        this.texts = ChatCorpus.miniMessage();
+        this.player = ChatCorpus.player();
+    }
+
+    @Benchmark
+    public boolean startsWithVisible() {
+        return Strings.startsWithVisible(this.texts[this.next()], ChatCorpus.PREFIX);
+    }
+
+    @Benchmark
+    public boolean startsWithVisibleBaseline() {
+        return Strings.TAG_PATTERN.matcher(Strings.colorless(this.texts[this.next()])).replaceAll("").trim().startsWith(ChatCorpus.PREFIX);
+    }
+
+    @Benchmark
+    public String processMessage() {
+        return Strings.processMessage(this.packetTexts[this.next()], ChatCorpus.PREFIX);
+    }
+
+    @Benchmark
+    public String processMessageBaseline() {
+        return COLOR_SYMBOL_PATTERN.matcher(SYMBOL_PREFIX_PATTERN.matcher(this.packetTexts[this.next()]).replaceFirst("")).replaceAll("&");
+    }
+
+    @Benchmark
+    public String quote() {
+        return Strings.quote(this.texts[this.next()]);
+    }
+
+    @Benchmark
+    public String processArgumentTags() {
+        return TagManager.processArgumentTags(this.player, this.texts[this.next()]);
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.texts.length ? 0 : current + 1;
+        return current;
+    }
+
+}
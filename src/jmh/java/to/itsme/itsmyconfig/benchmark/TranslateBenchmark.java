@@ -0,0 +1,58 @@
+package to.itsme.itsmyconfig.benchmark;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import to.itsme.itsmyconfig.util.Utilities;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the translation of MiniMessage texts into components for a stub player, one message per operation.
+ * <br>
+ * A template cache of size 0 compiles every message again, as when {@code translation-cache-size} is 0.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TranslateBenchmark {
+
+    @Param({"0", "1024"})
+    public int templateCacheSize;
+
+    private String[] texts;
+    private Player player;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ChatCorpus.stubPlugin(this.templateCacheSize);
+        this.texts = ChatCorpus.miniMessage();
+        this.player = ChatCorpus.player();
+    }
+
+    @Benchmark
+    public Component translate() {
+        return Utilities.translate(this.texts[this.next()], this.player);
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.texts.length ? 0 : current + 1;
+        return current;
+    }
+
+}
@@ -9,18 +9,30 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 import to.itsme.itsmyconfig.command.CommandManager;
+import to.itsme.itsmyconfig.font.Font;
 import to.itsme.itsmyconfig.listener.impl.PacketChatListener;
+import to.itsme.itsmyconfig.listener.impl.PlayerListener;
 import to.itsme.itsmyconfig.hook.PAPIHook;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
+import to.itsme.itsmyconfig.placeholder.PlaceholderFile;
 import to.itsme.itsmyconfig.placeholder.PlaceholderManager;
+import to.itsme.itsmyconfig.placeholder.PlaceholderSnapshot;
 import to.itsme.itsmyconfig.placeholder.PlaceholderType;
+import to.itsme.itsmyconfig.placeholder.PlaceholderWatcher;
 import to.itsme.itsmyconfig.placeholder.type.*;
 import to.itsme.itsmyconfig.placeholder.type.ProgressbarPlaceholder;
 import to.itsme.itsmyconfig.requirement.RequirementManager;
+import to.itsme.itsmyconfig.util.Scheduler;
+import to.itsme.itsmyconfig.util.TemplateCache;
+import to.itsme.itsmyconfig.util.Ticks;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
 
 /**
  * ItsMyConfig class represents the main configuration class for the plugin.
@@ -32,9 +44,13 @@ public final class ItsMyConfig extends JavaPlugin {
     private static ItsMyConfig instance;
     private final PlaceholderManager placeholderManager = new PlaceholderManager();
     private final RequirementManager requirementManager = new RequirementManager();
+    private final TemplateCache templateCache = new TemplateCache(0);
     private FileConfiguration config;
+    private PacketChatListener packetListener;
+    private PlaceholderWatcher placeholderWatcher;
+    private volatile Map<String, PlaceholderFile> placeholderFiles = Collections.emptyMap();
     private String symbolPrefix;
-    private boolean debug;
+    private boolean debug, componentRewriter;
 
     private BukkitAudiences adventure;
 
@@ -56,19 +72,36 @@ public final class ItsMyConfig extends JavaPlugin {
         new CommandManager(this);
 
         this.adventure = BukkitAudiences.create(this);
+        Ticks.start();
 
         this.loadConfig();
 
         new Metrics(this, 21713);
+        this.getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
 
         final ProtocolManager protocolManager = ProtocolLibrary.getProtocolManager();
-        protocolManager.addPacketListener(new PacketChatListener(this));
+        this.packetListener = new PacketChatListener(this);
+        protocolManager.addPacketListener(this.packetListener);
+        if (this.config.getBoolean("async-packets.enabled")) {
+            this.packetListener.enableAsync(
+                    this.config.getInt("async-packets.workers", 2),
+                    this.config.getInt("async-packets.queue-size", 256)
+            );
+        }
 
         this.getLogger().info("ItsMyConfig loaded in " + (System.currentTimeMillis() - start) + "ms");
     }
 
     @Override
     public void onDisable() {
+        Ticks.stop();
+        if (this.placeholderWatcher != null) {
+            this.placeholderWatcher.stop();
+            this.placeholderWatcher = null;
+        }
+        if (this.packetListener != null) {
+            this.packetListener.disableAsync();
+        }
         this.placeholderManager.unregisterAll();
         if (this.adventure != null) {
             this.adventure.close();
@@ -82,28 +115,58 @@ public final class ItsMyConfig extends JavaPlugin {
      * <p>
      * 0. Cache time before loading placeholders.
      * 1-2. Track previously registered placeholders and progress bars.
-     * 3-4. Clear all registered placeholders and progress bars.
+     * 3-4. Once loaded, replace all registered placeholders and progress bars at once.
      * 5. Save the default configuration file if it does not exist
      * 6. Reload the configuration from the file.
      * 7. Loads the symbol prefix from the configuration.
      * 8-9. Maps to keep track of registered placeholders and progress bars to avoid duplicates.
-     * 10-11. Load and register placeholders and progress bars from the main configuration file.
-     * 12. Load and register placeholders and progress bars from additional custom .yml files.
+     * 10-11. Load placeholders and progress bars from the main configuration file.
+     * 12. Load placeholders and progress bars from additional custom .yml files.
      * 13 - 14. Print all info about duplicated placeholders and bars.
      * 15 - 16. Print all info about deleted placeholders and bars.
      * 17. Clear maps from the cache to save memory.
      * 18. Send the placeholders loaded message.
+     * <p>
+     * Blocks until the placeholders are registered, see {@link #reloadConfigAsync()} to keep the calling thread free.
      */
     public void loadConfig() {
+        this.loadConfig(Runnable::run, Runnable::run, true).join();
+    }
+
+    /**
+     * Reloads the configuration like {@link #loadConfig()}, parsing the placeholder files off the calling thread.
+     * <br>
+     * Only the config.yml reload and the final registry swap run on the main thread.
+     *
+     * With reload.incremental enabled, only the placeholder files that changed since the last load are parsed again,
+     * the placeholders of unchanged files are kept as-is.
+     *
+     * @param full Whether every placeholder file is parsed again, even with reload.incremental enabled.
+     * @return a future completed once the new placeholders are registered.
+     */
+    public CompletableFuture<Void> reloadConfigAsync(final boolean full) {
+        return this.loadConfig(ForkJoinPool.commonPool(), task -> Scheduler.runNextTick(wrapped -> task.run()), full);
+    }
+
+    /**
+     * Loads the configuration, see {@link #loadConfig()} for the steps.
+     *
+     * @param loader      The executor loading the placeholder files.
+     * @param registrar   The executor registering the loaded placeholders.
+     * @param full      Whether every placeholder file is parsed again.
+     * @return a future completed once the new placeholders are registered.
+     */
+    private CompletableFuture<Void> loadConfig(
+            final Executor loader,
+            final Executor registrar,
+            final boolean full
+    ) {
         // 0: Cache time before loading placeholders
         final long time = System.currentTimeMillis();
 
         // 1 - 2: cache old placeholder and bar names
         final Set<String> previousPlaceholders = new HashSet<>(placeholderManager.getPlaceholderKeys());
 
-        // 3 - 4: unregister all placeholders and bars
-        this.placeholderManager.unregisterAll();
-
         // 5 - 7: load config.yml
         this.saveDefaultConfig();
         this.reloadConfig();
@@ -112,6 +175,7 @@ public final class ItsMyConfig extends JavaPlugin {
 
         // 8 - 9:  Maps to keep track of registered placeholders and progress bars
         final Map<String, List<String>> placeholderPaths = new HashMap<>();
+        final Map<String, Placeholder> placeholders = new LinkedHashMap<>();
 
         // 10 - 11: Load and register placeholders and progress bars from the main configuration file
         // 12: Load and register placeholders and progress bars from additional custom .yml files
@@ -124,8 +188,28 @@ public final class ItsMyConfig extends JavaPlugin {
                 this.migrateConfig(folder);
             }
         }
-        this.loadFolder(folder, placeholderPaths);
+        this.updatePlaceholderWatcher(folder);
+
+        final boolean incremental = !full && this.config.getBoolean("reload.incremental");
+        return CompletableFuture.runAsync(() -> this.loadFolder(folder, incremental, placeholders, placeholderPaths), loader).thenRunAsync(() -> {
+            // 3 - 4: swap all placeholders and bars, lookups never see a partially loaded registry
+            this.placeholderManager.replaceAll(placeholders);
+            this.printLoadResult(time, previousPlaceholders, placeholderPaths);
+        }, registrar);
+    }
 
+    /**
+     * Prints the duplicated, deleted and loaded placeholders once registered.
+     *
+     * @param time                 The time the load started at.
+     * @param previousPlaceholders The placeholders registered before the load.
+     * @param placeholderPaths     The files each loaded placeholder is declared in.
+     */
+    private void printLoadResult(
+            final long time,
+            final Set<String> previousPlaceholders,
+            final Map<String, List<String>> placeholderPaths
+    ) {
         // 13 - 14: Print all info about duplicated placeholders and bars
         final String listSeparator = "\n   - ";
         final Comparator<String> comparator = Comparator.comparingInt(String::length);
@@ -167,51 +251,135 @@ public final class ItsMyConfig extends JavaPlugin {
     private void reloadConfigParams() {
         this.debug = this.config.getBoolean("debug");
         this.symbolPrefix = this.config.getString("symbol-prefix");
+        Font.load(this.config.getConfigurationSection("fonts"));
+        this.templateCache.resize(this.config.getInt("translation-cache-size", 512));
+        this.componentRewriter = "component".equalsIgnoreCase(this.config.getString("packet-rewriter", "minimessage"));
     }
 
     /**
-     * Recursively loads .yml files from the specified folder.
-     * It iterates through the files in the folder, loading each .yml file using the `loadCustomYml` method if it meets the criteria.
+     * Starts or stops watching the placeholders folder, following the reload.watch option.
+     *
+     * @param folder The placeholders folder.
+     */
+    private void updatePlaceholderWatcher(final File folder) {
+        final boolean watch = this.config.getBoolean("reload.watch");
+        if (watch && this.placeholderWatcher == null) {
+            final PlaceholderWatcher watcher = new PlaceholderWatcher(folder.toPath(), () -> Scheduler.runNextTick(
+                    task -> this.reloadConfigAsync(false).exceptionally(throwable -> {
+                        this.getLogger().log(Level.SEVERE, "Failed to reload the changed placeholder files", throwable);
+                        return null;
+                    })
+            ));
+            try {
+                watcher.start();
+                this.placeholderWatcher = watcher;
+            } catch (final IOException e) {
+                this.getLogger().log(Level.WARNING, "Could not watch the placeholders folder, changes have to be reloaded manually", e);
+            }
+        } else if (!watch && this.placeholderWatcher != null) {
+            this.placeholderWatcher.stop();
+            this.placeholderWatcher = null;
+        }
+    }
+
+    /**
+     * Loads the .yml files of the specified folder and its sub-folders.
+     * <br>
+     * The files are parsed in parallel, then merged in the order they are listed in, so the same placeholder wins
+     * when it is duplicated. The winning placeholders are constructed in parallel as well.
+     * <br>
+     * On an incremental load, files whose size, modification time or content hash didn't change aren't parsed again,
+     * and the placeholders constructed from them are kept.
+     * On the first load, unchanged files are restored from the placeholder snapshot if it is enabled.
      *
      * @param folder                 The folder from which to load .yml files.
+     * @param incremental            Whether unchanged files are reused.
+     * @param placeholders           The loaded placeholders, in load order.
      * @param placeholderPaths       A map of registered placeholders to avoid duplicates.
      */
     private void loadFolder(
             final File folder,
+            final boolean incremental,
+            final Map<String, Placeholder> placeholders,
             final Map<String, List<String>> placeholderPaths
     ) {
-        if (folder == null || !folder.isDirectory()) {
-            return;
+        final List<File> files = new ArrayList<>();
+        this.collectFiles(folder, files);
+
+        final boolean snapshot = this.config.getBoolean("reload.snapshot");
+        final File snapshotFile = new File(this.getDataFolder(), "placeholders.snapshot");
+        final Map<String, PlaceholderFile> previousFiles;
+        if (incremental) {
+            previousFiles = this.placeholderFiles;
+        } else if (snapshot && this.placeholderFiles.isEmpty()) {
+            previousFiles = PlaceholderSnapshot.read(snapshotFile);
+        } else {
+            previousFiles = Collections.emptyMap();
         }
 
-        final File[] files = folder.listFiles();
-        if (files == null) {
-            return;
+        final List<CompletableFuture<PlaceholderFile>> loading = new ArrayList<>(files.size());
+        for (final File file : files) {
+            final PlaceholderFile previous = previousFiles.get(file.getPath());
+            loading.add(CompletableFuture.supplyAsync(() -> PlaceholderFile.load(file, previous), ForkJoinPool.commonPool()));
         }
 
-        for (final File file : files) {
-            if (file.isDirectory()) {
-                this.loadFolder(file, placeholderPaths);
-            } else if (file.isFile() && file.getName().endsWith(".yml")) {
-                this.loadYAMLFile(file, placeholderPaths);
+        int parsed = 0;
+        final Map<String, PlaceholderFile> loadedFiles = new HashMap<>();
+        final Map<String, CompletableFuture<Placeholder>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            final File file = files.get(i);
+            final PlaceholderFile loaded = loading.get(i).join();
+            final PlaceholderFile previous = previousFiles.get(file.getPath());
+            if (previous == null || loaded.getConfig() != previous.getConfig()) {
+                parsed++;
             }
+
+            loadedFiles.put(file.getPath(), loaded);
+            final YamlConfiguration config = loaded.getConfig();
+            if (config.isConfigurationSection("custom-placeholder")) {
+                loadPlaceholdersSection(config.getConfigurationSection("custom-placeholder"), file, loaded, pending, placeholderPaths);
+            }
+        }
+
+        for (final Map.Entry<String, CompletableFuture<Placeholder>> entry : pending.entrySet()) {
+            placeholders.put(entry.getKey(), entry.getValue().join());
+        }
+
+        this.placeholderFiles = loadedFiles;
+        if (!previousFiles.isEmpty()) {
+            this.getLogger().info(String.format("Parsed %d out of %d placeholder files", parsed, files.size()));
+        }
+
+        if (snapshot && (parsed != 0 || !loadedFiles.keySet().equals(previousFiles.keySet()))) {
+            PlaceholderSnapshot.write(snapshotFile, loadedFiles);
         }
     }
 
     /**
-     * Loads custom data from a .yml file.
-     * It reads the file using `YamlConfiguration` and extracts custom progress bars and placeholders if they exist.
+     * Recursively lists the .yml files of the specified folder.
      *
-     * @param file                   The .yml file to load custom data from.
-     * @param placeholderPaths       A map of registered placeholders to avoid duplicates.
+     * @param folder The folder from which to list .yml files.
+     * @param files  The list the files are added to, in listing order.
      */
-    private void loadYAMLFile(
-            final File file,
-            final Map<String, List<String>> placeholderPaths
+    private void collectFiles(
+            final File folder,
+            final List<File> files
     ) {
-        final YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
-        if (config.isConfigurationSection("custom-placeholder")) {
-            loadPlaceholdersSection(config.getConfigurationSection("custom-placeholder"), file, placeholderPaths);
+        if (folder == null || !folder.isDirectory()) {
+            return;
+        }
+
+        final File[] children = folder.listFiles();
+        if (children == null) {
+            return;
+        }
+
+        for (final File file : children) {
+            if (file.isDirectory()) {
+                this.collectFiles(file, files);
+            } else if (file.isFile() && file.getName().endsWith(".yml")) {
+                files.add(file);
+            }
         }
     }
 
@@ -256,15 +424,20 @@ public final class ItsMyConfig extends JavaPlugin {
 
     /**
      * Loads custom placeholders from a YAML configuration section.
-     * It iterates over each placeholder defined in the section, constructs a corresponding `PlaceholderData` object, and registers it with the `placeholderManager`.
+     * It iterates over each placeholder defined in the section and constructs a corresponding `PlaceholderData` object on the common pool,
+     * unless the placeholder was already loaded from another file, or constructed from the same unchanged file before.
      * Additionally, it registers any associated requirements for each placeholder.
      *
      * @param section                The YAML configuration section containing placeholder data.
+     * @param loaded                 The loaded file the section is from.
+     * @param placeholders           The placeholders being constructed, in load order.
      * @param paths                  A map of registered placeholders to avoid duplicates.
      */
     private void loadPlaceholdersSection(
             final ConfigurationSection section,
             final File file,
+            final PlaceholderFile loaded,
+            final Map<String, CompletableFuture<Placeholder>> placeholders,
             final Map<String, List<String>> paths
     ) {
         final String filePath = formatPath("ItsMyConfig\\" + file.getPath().replace("/", "\\").replace(getDataFolder().getPath() + "\\", ""));
@@ -274,7 +447,7 @@ public final class ItsMyConfig extends JavaPlugin {
         }
 
         for (final String identifier : section.getKeys(false)) {
-            if (placeholderManager.has(identifier)) {
+            if (placeholders.containsKey(identifier)) {
                 paths.get(identifier).add(filePath);
                 continue;
             }
@@ -285,25 +458,48 @@ public final class ItsMyConfig extends JavaPlugin {
                 continue;
             }
 
-            // Use getPlaceholderData to retrieve PlaceholderData
-            final Placeholder placeholder = this.getPlaceholder(file.getPath(), placeholderSection);
-
-            // Load requirements if they exist
-            if (placeholderSection.isConfigurationSection("requirements")) {
-                final ConfigurationSection requirementsSection = placeholderSection.getConfigurationSection("requirements");
-                for (final String reqIdentifier : requirementsSection.getKeys(false)) {
-                    final ConfigurationSection reqSection = requirementsSection.getConfigurationSection(reqIdentifier);
-                    if (reqSection != null) {
-                        placeholder.registerRequirement(reqSection);
-                    } else {
-                        getLogger().warning(String.format("Invalid requirement configuration for %s in placeholder %s from file %s", reqIdentifier, identifier, filePath));
-                    }
+            final Placeholder previous = loaded.getPlaceholder(identifier);
+            placeholders.put(identifier, previous != null ? CompletableFuture.completedFuture(previous) : CompletableFuture.supplyAsync(() -> {
+                final Placeholder placeholder = this.createPlaceholder(identifier, file, filePath, placeholderSection);
+                loaded.putPlaceholder(identifier, placeholder);
+                return placeholder;
+            }, ForkJoinPool.commonPool()));
+            paths.computeIfAbsent(identifier, v -> new ArrayList<>()).add(filePath);
+        }
+    }
+
+    /**
+     * Constructs a placeholder along with its requirements.
+     *
+     * @param identifier The identifier of the placeholder.
+     * @param file       The .yml file the placeholder is declared in.
+     * @param filePath   The formatted path of the file, for warnings.
+     * @param section    The configuration section containing the placeholder data.
+     * @return The placeholder data object.
+     */
+    private Placeholder createPlaceholder(
+            final String identifier,
+            final File file,
+            final String filePath,
+            final ConfigurationSection section
+    ) {
+        // Use getPlaceholderData to retrieve PlaceholderData
+        final Placeholder placeholder = this.getPlaceholder(file.getPath(), section);
+
+        // Load requirements if they exist
+        if (section.isConfigurationSection("requirements")) {
+            final ConfigurationSection requirementsSection = section.getConfigurationSection("requirements");
+            for (final String reqIdentifier : requirementsSection.getKeys(false)) {
+                final ConfigurationSection reqSection = requirementsSection.getConfigurationSection(reqIdentifier);
+                if (reqSection != null) {
+                    placeholder.registerRequirement(reqSection);
+                } else {
+                    getLogger().warning(String.format("Invalid requirement configuration for %s in placeholder %s from file %s", reqIdentifier, identifier, filePath));
                 }
             }
-
-            placeholderManager.register(identifier, placeholder);
-            paths.computeIfAbsent(identifier, v -> new ArrayList<>()).add(filePath);
         }
+
+        return placeholder;
     }
 
     /**
@@ -388,6 +584,24 @@ public final class ItsMyConfig extends JavaPlugin {
         return this.debug;
     }
 
+    /**
+     * Retrieves whether packets are rewritten on their component tree instead of through MiniMessage.
+     *
+     * @return true if the component rewriter is enabled.
+     */
+    public boolean isComponentRewriter() {
+        return this.componentRewriter;
+    }
+
+    /**
+     * Retrieves the chat packet listener.
+     *
+     * @return The PacketChatListener instance, or null if it wasn't registered yet.
+     */
+    public PacketChatListener getPacketListener() {
+        return this.packetListener;
+    }
+
     /**
      * Retrieves the PlaceholderManager instance.
      *
@@ -397,6 +611,15 @@ public final class ItsMyConfig extends JavaPlugin {
         return this.placeholderManager;
     }
 
+    /**
+     * Retrieves the cache of compiled message templates.
+     *
+     * @return The TemplateCache instance.
+     */
+    public TemplateCache getTemplateCache() {
+        return this.templateCache;
+    }
+
     /**
      * Returns the RequirementManager object. The RequirementManager class is responsible for managing requirements
      * and validating them.
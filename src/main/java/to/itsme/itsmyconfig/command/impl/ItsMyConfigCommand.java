@@ -16,15 +16,22 @@ import revxrsal.commands.bukkit.EntitySelector;
 import revxrsal.commands.bukkit.annotation.CommandPermission;
 import revxrsal.commands.help.CommandHelp;
 import to.itsme.itsmyconfig.ItsMyConfig;
+import to.itsme.itsmyconfig.listener.AsyncPacketPipeline;
+import to.itsme.itsmyconfig.listener.impl.PacketChatListener;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
+import to.itsme.itsmyconfig.placeholder.PlaceholderCache;
 import to.itsme.itsmyconfig.placeholder.PlaceholderType;
+import to.itsme.itsmyconfig.util.LatencyHistogram;
 import to.itsme.itsmyconfig.util.Message;
 import to.itsme.itsmyconfig.util.Strings;
+import to.itsme.itsmyconfig.util.TemplateCache;
 import to.itsme.itsmyconfig.util.Utilities;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
 
 @Command("itsmyconfig")
 public final class ItsMyConfigCommand {
@@ -101,9 +108,80 @@ public final class ItsMyConfigCommand {
     @Subcommand("reload")
     @CommandPermission("itsmyconfig.reload")
     @Description("Reloads the plugin config")
-    public void reload(final BukkitCommandActor actor) {
-        plugin.loadConfig();
-        Message.RELOAD.send(actor);
+    public void reload(
+            final BukkitCommandActor actor,
+            final @Switch("full") boolean full
+    ) {
+        plugin.reloadConfigAsync(full).thenRun(() -> Message.RELOAD.send(actor)).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.SEVERE, "Failed to reload the configuration", throwable);
+            return null;
+        });
+    }
+
+    @Subcommand("stats")
+    @CommandPermission("itsmyconfig.stats")
+    @Description("Shows packet processing statistics")
+    public void stats(final BukkitCommandActor actor) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('\n').append("<gold><bold>ItsMyConfig</bold></gold> <white>┃ Statistics");
+
+        final PacketChatListener listener = plugin.getPacketListener();
+        if (listener != null) {
+            final long hits = listener.getPrefilterHits();
+            final long total = hits + listener.getPrefilterMisses();
+            builder.append("\n  <gray>• <white>Prefilter: <yellow>").append(hits).append("</yellow>/<yellow>").append(total)
+                    .append("</yellow> packets rejected <gray>(").append(percentage(hits, total)).append(")");
+            builder.append("\n  <gray>• <white>Shared renders: <yellow>").append(listener.getSharedRenders());
+            appendLatency(builder, "Sending thread", listener.getLatency());
+
+            final AsyncPacketPipeline pipeline = listener.getPipeline();
+            if (pipeline != null) {
+                appendLatency(builder, "Async workers", pipeline.getLatency());
+                builder.append("\n  <gray>• <white>Async queue: <yellow>").append(pipeline.getQueued())
+                        .append("</yellow> waiting, <yellow>").append(pipeline.getFallbacks()).append("</yellow> sync fallbacks");
+            }
+        }
+
+        final TemplateCache templates = plugin.getTemplateCache();
+        final long templateHits = templates.getHits();
+        final long templateLookups = templateHits + templates.getMisses();
+        builder.append("\n  <gray>• <white>Templates: <yellow>").append(templates.size()).append("</yellow>/<yellow>").append(templates.getMaximumSize())
+                .append("</yellow> cached, hit ratio <yellow>").append(percentage(templateHits, templateLookups))
+                .append("</yellow>, <yellow>").append(templates.getEvictions()).append("</yellow> evictions");
+
+        final Map<String, Placeholder> placeholders = plugin.getPlaceholderManager().getPlaceholdersMap();
+        for (final Map.Entry<String, Placeholder> entry : placeholders.entrySet()) {
+            final PlaceholderCache cache = entry.getValue().getCache();
+            if (cache == null) {
+                continue;
+            }
+
+            final long cacheHits = cache.getHits();
+            final long cacheLookups = cacheHits + cache.getMisses();
+            builder.append("\n  <gray>• <white>Cache <yellow>").append(entry.getKey()).append("</yellow>: <yellow>").append(cacheHits)
+                    .append("</yellow>/<yellow>").append(cacheLookups).append("</yellow> hits <gray>(").append(percentage(cacheHits, cacheLookups)).append(")");
+        }
+
+        builder.append("\n");
+        actor.reply(Utilities.MM.deserialize(builder.toString()));
+    }
+
+    private static void appendLatency(
+            final StringBuilder builder,
+            final String name,
+            final LatencyHistogram histogram
+    ) {
+        builder.append("\n  <gray>• <white>").append(name).append(": <yellow>").append(histogram.getCount())
+                .append("</yellow> packets, avg <yellow>").append(String.format("%.1fµs", histogram.getAverageMicros()))
+                .append("</yellow>, p50 <yellow>≤").append(histogram.getPercentileMicros(50))
+                .append("µs</yellow>, p99 <yellow>≤").append(histogram.getPercentileMicros(99)).append("µs");
+    }
+
+    private static String percentage(final long part, final long total) {
+        if (total == 0) {
+            return "0%";
+        }
+        return String.format("%.1f%%", part * 100D / total);
     }
 
     @Subcommand("message")
@@ -174,7 +252,7 @@ public final class ItsMyConfigCommand {
         }
 
         actor.reply(Utilities.MM.deserialize("<green>Placeholder <yellow>" + section.getName() + "</yellow>'s value was updated successfully!</green>"));
-        this.reload(actor);
+        this.reload(actor, false);
     }
 
     @Command("message")
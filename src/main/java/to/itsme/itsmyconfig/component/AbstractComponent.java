@@ -14,7 +14,7 @@ import to.itsme.itsmyconfig.component.impl.TextfulComponent;
 import to.itsme.itsmyconfig.component.impl.TranslatingComponent;
 import to.itsme.itsmyconfig.util.Utilities;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 public abstract class AbstractComponent {
@@ -27,8 +27,6 @@ public abstract class AbstractComponent {
             .registerTypeAdapter(TranslatingComponent.class, new TranslatingComponent.Adapter())
             .create();
 
-    private static final JsonParser PARSER = new JsonParser();
-
     /**
      * Translates {@link AbstractComponent} to a JSON String
      *
@@ -41,14 +39,14 @@ public abstract class AbstractComponent {
     }
 
     /**
-     * Parses a json string to an {@link AbstractComponent}
+     * Parses a json string to an {@link AbstractComponent}, streaming it with {@link ComponentReader}.
      *
      * @param json The parsed json String.
      * @return an instance of {@link AbstractComponent}.
      */
     public static AbstractComponent parse(@NotNull final String json) {
         try {
-            return parse(PARSER.parse(json));
+            return ComponentReader.read(json);
         } catch (final Throwable ignored) {
             Utilities.debug(() -> "Couldn't parse json: " + json + " so returning PsedoComponent", ignored);
             return new PseudoComponent(json);
@@ -72,35 +70,18 @@ public abstract class AbstractComponent {
         return new PseudoComponent(component);
     }
 
-    /**
-     * Parses {@link JsonElement} to an {@link AbstractComponent}
-     *
-     * @param element The parsed {@link JsonElement}.
-     * @return an instance of {@link AbstractComponent}.
-     */
-    public static AbstractComponent parse(@NotNull final JsonElement element) {
-        if (element.isJsonObject()) {
-            final JsonObject jsonObject = element.getAsJsonObject();
-            if (jsonObject.has("keybind")) {
-                return GSON.fromJson(element, KeybindedComponent.class);
-            } else if (jsonObject.has("translate")) {
-                return GSON.fromJson(element, TranslatingComponent.class);
-            }
-            return GSON.fromJson(element, TextfulComponent.class);
-        } else if (element.isJsonArray()) {
-            final TextfulComponent component = new TextfulComponent();
-            for (final JsonElement found : element.getAsJsonArray()) {
-                component.extra.add(parse(found));
-            }
-            return component;
-        } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
-            return new TextfulComponent(element.getAsString());
-        }
+    protected final List<AbstractComponent> extra;
 
-        return new PseudoComponent(element.getAsString());
+    protected AbstractComponent() {
+        this(new ArrayList<>());
     }
 
-    protected final List<AbstractComponent> extra = new LinkedList<>();
+    /**
+     * Represents a component with the given children, the list is kept as-is.
+     */
+    protected AbstractComponent(final List<AbstractComponent> extra) {
+        this.extra = extra;
+    }
 
     public abstract String toMiniMessage();
 
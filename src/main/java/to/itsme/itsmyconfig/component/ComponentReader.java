@@ -0,0 +1,531 @@
+package to.itsme.itsmyconfig.component;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import to.itsme.itsmyconfig.component.event.ClickEvent;
+import to.itsme.itsmyconfig.component.event.HoverEvent;
+import to.itsme.itsmyconfig.component.impl.KeybindedComponent;
+import to.itsme.itsmyconfig.component.impl.PseudoComponent;
+import to.itsme.itsmyconfig.component.impl.TextfulComponent;
+import to.itsme.itsmyconfig.component.impl.TranslatingComponent;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads chat component JSON straight into {@link AbstractComponent}s, in a single pass without building a JSON tree.
+ * <br>
+ * The components are the same the tree deserializers used to produce: the type of an object is decided once all its keys are read,
+ * values are converted like {@link JsonElement#getAsString()} and {@link JsonElement#getAsBoolean()} convert them,
+ * and a JSON those rejected is still rejected, so the caller falls back to a {@link PseudoComponent}.
+ * <br>
+ * Since those only looked at the keys of the final component type, and at the last of duplicated keys,
+ * values are read into {@link #INVALID} rather than throwing, and only rejected once they turn out to be used.
+ */
+final class ComponentReader {
+
+    /**
+     * Represents a value the tree deserializers would have rejected.
+     */
+    private static final Object INVALID = new Object();
+
+    private static final TypeAdapter<JsonElement> ELEMENT = new Gson().getAdapter(JsonElement.class);
+
+    /**
+     * Reads a JSON component.
+     *
+     * @param json The JSON string, read leniently.
+     * @return the component.
+     * @throws IOException if the JSON is malformed or isn't a valid component.
+     */
+    static AbstractComponent read(final String json) throws IOException {
+        final JsonReader reader = reader(json);
+        final Object component = readComponent(reader);
+        if (component == INVALID) {
+            throw new MalformedJsonException("Invalid component at " + reader.getPath());
+        } else if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new MalformedJsonException("Did not consume the entire document.");
+        }
+        return (AbstractComponent) component;
+    }
+
+    private static Object readComponent(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(reader, false);
+            case BEGIN_ARRAY:
+                final Object extra = readComponents(reader);
+                return extra == INVALID ? INVALID : new TextfulComponent(components(extra));
+            case STRING:
+                return new TextfulComponent(reader.nextString());
+            case NUMBER:
+                return new PseudoComponent(reader.nextString());
+            case BOOLEAN:
+                return new PseudoComponent(Boolean.toString(reader.nextBoolean()));
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+    }
+
+    private static Object readComponents(final JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return INVALID;
+        }
+
+        final List<AbstractComponent> components = new ArrayList<>();
+        boolean valid = true;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final Object component = readComponent(reader);
+            if (component == INVALID) {
+                valid = false;
+            } else if (valid) {
+                components.add((AbstractComponent) component);
+            }
+        }
+        reader.endArray();
+        return valid ? components : INVALID;
+    }
+
+    /**
+     * Reads a component object.
+     *
+     * @param reader The reader, before the object.
+     * @param textful Whether the object is always read as a {@link TextfulComponent}, as hover texts are.
+     * @return the component, or {@link #INVALID}.
+     */
+    private static Object readObject(
+            final JsonReader reader,
+            final boolean textful
+    ) throws IOException {
+        Object text = null, color = null, insertion = null, keybind = null, key = null;
+        Object bold = false, italic = false, underlined = false, strikethrough = false, obfuscated = false;
+        Object clickEvent = null, hoverEvent = null, with = null, extra = null;
+        boolean keybound = false, translated = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    text = readString(reader);
+                    break;
+                case "color":
+                    color = readString(reader);
+                    break;
+                case "bold":
+                    bold = readBoolean(reader);
+                    break;
+                case "italic":
+                    italic = readBoolean(reader);
+                    break;
+                case "underlined":
+                    underlined = readBoolean(reader);
+                    break;
+                case "strikethrough":
+                    strikethrough = readBoolean(reader);
+                    break;
+                case "obfuscated":
+                    obfuscated = readBoolean(reader);
+                    break;
+                case "insertion":
+                    insertion = readString(reader);
+                    break;
+                case "clickEvent":
+                    clickEvent = readClickEvent(reader);
+                    break;
+                case "hoverEvent":
+                    hoverEvent = readHoverEvent(reader);
+                    break;
+                case "keybind":
+                    keybind = readString(reader);
+                    keybound = true;
+                    break;
+                case "translate":
+                    key = readString(reader);
+                    translated = true;
+                    break;
+                case "with":
+                    with = readComponents(reader);
+                    break;
+                case "extra":
+                    extra = readComponents(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (!textful && keybound) {
+            if (isInvalid(keybind, extra)) {
+                return INVALID;
+            }
+            return new KeybindedComponent((String) keybind, components(extra));
+        } else if (!textful && translated) {
+            if (isInvalid(key, color, with, extra)) {
+                return INVALID;
+            }
+            return new TranslatingComponent((String) key, (String) color, components(with), components(extra));
+        }
+
+        if (isInvalid(text, color, bold, italic, underlined, strikethrough, obfuscated, insertion, clickEvent, hoverEvent, extra)) {
+            return INVALID;
+        }
+        return new TextfulComponent(
+                (String) text,
+                (String) color,
+                (Boolean) bold,
+                (Boolean) italic,
+                (Boolean) underlined,
+                (Boolean) strikethrough,
+                (Boolean) obfuscated,
+                (String) insertion,
+                (ClickEvent) clickEvent,
+                (HoverEvent) hoverEvent,
+                components(extra)
+        );
+    }
+
+    private static Object readClickEvent(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                break;
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+
+        Object action = null, value = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "action":
+                    action = readString(reader);
+                    break;
+                case "value":
+                    value = readString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return isInvalid(action, value) ? INVALID : new ClickEvent((String) action, (String) value);
+    }
+
+    private static Object readHoverEvent(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                break;
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+
+        Object action = null, value = null, contents = null;
+        boolean hasValue = false, hasContents = false;
+        // how the value is read depends on the action, a value written first is kept as a tree until the action is known
+        JsonElement pending = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "action":
+                    action = readString(reader);
+                    break;
+                case "value":
+                    hasValue = true;
+                    if (action instanceof String) {
+                        value = readHoverValue(reader, (String) action);
+                        pending = null;
+                    } else {
+                        pending = ELEMENT.read(reader);
+                    }
+                    break;
+                case "contents":
+                    hasContents = true;
+                    contents = readHoverContents(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (action == null || action == INVALID) {
+            return INVALID;
+        }
+
+        if (pending != null) {
+            value = readHoverValue(reader(pending.toString()), (String) action);
+        }
+
+        final Object used = hasValue ? value : hasContents ? contents : null;
+        return used == INVALID ? INVALID : new HoverEvent((String) action, used);
+    }
+
+    private static Object readHoverValue(
+            final JsonReader reader,
+            final String action
+    ) throws IOException {
+        switch (action) {
+            case "show_achievement":
+                return readString(reader);
+            case "show_item":
+                return readShowItem(reader);
+            case "show_entity":
+                return readShowEntity(reader);
+            default:
+                switch (reader.peek()) {
+                    case NULL:
+                        reader.nextNull();
+                        return null;
+                    case BEGIN_OBJECT:
+                        return readObject(reader, true);
+                    case BEGIN_ARRAY:
+                        return readComponent(reader);
+                    default:
+                        final Object text = readString(reader);
+                        return text == INVALID ? INVALID : new TextfulComponent((String) text);
+                }
+        }
+    }
+
+    private static Object readHoverContents(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                return readObject(reader, true);
+            case STRING:
+            case NUMBER:
+            case BOOLEAN:
+                return new TextfulComponent((String) readString(reader));
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+    }
+
+    /**
+     * Reads a show_item value the way Gson reads its fields, rejecting it at the first invalid field.
+     */
+    private static Object readShowItem(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                break;
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+
+        Object item = null;
+        int count = 0;
+        boolean valid = true;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (!valid) {
+                reader.skipValue();
+            } else if ("item".equals(name)) {
+                item = readNullableString(reader);
+                valid = item != INVALID;
+            } else if ("count".equals(name)) {
+                final JsonToken token = reader.peek();
+                if (token == JsonToken.NULL) {
+                    reader.nextNull();
+                } else if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+                    final String number = reader.nextString();
+                    try {
+                        // numbers are truncated like JsonPrimitive#getAsInt() does, strings must be integers
+                        count = token == JsonToken.NUMBER ? truncate(number) : Integer.parseInt(number);
+                    } catch (final NumberFormatException ignored) {
+                        valid = false;
+                    }
+                } else {
+                    reader.skipValue();
+                    valid = false;
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return valid ? new HoverEvent.ShowItem((String) item, count) : INVALID;
+    }
+
+    /**
+     * Reads a show_entity value the way Gson reads its fields, rejecting it at the first invalid field.
+     */
+    private static Object readShowEntity(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                break;
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+
+        Object type = null;
+        UUID id = null;
+        boolean valid = true;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (!valid) {
+                reader.skipValue();
+            } else if ("type".equals(name)) {
+                type = readNullableString(reader);
+                valid = type != INVALID;
+            } else if ("id".equals(name)) {
+                final Object uuid = readNullableString(reader);
+                try {
+                    id = uuid == null ? null : UUID.fromString((String) uuid);
+                } catch (final ClassCastException | IllegalArgumentException ignored) {
+                    valid = false;
+                }
+            } else if ("name".equals(name)) {
+                // names were never supported, such hovers keep falling back to the adventure serializer
+                valid = reader.peek() == JsonToken.NULL;
+                reader.skipValue();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return valid ? new HoverEvent.ShowEntity((String) type, id) : INVALID;
+    }
+
+    /**
+     * Reads a string the way {@link JsonElement#getAsString()} does, accepting numbers, booleans and single element arrays.
+     */
+    private static Object readString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return Boolean.toString(reader.nextBoolean());
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                final Object value = reader.hasNext() ? readString(reader) : INVALID;
+                return endSingleElement(reader, value);
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+    }
+
+    /**
+     * Reads a string the way Gson reads a string field, null included.
+     */
+    private static Object readNullableString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return Boolean.toString(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+    }
+
+    /**
+     * Reads a boolean the way {@link JsonElement#getAsBoolean()} does, parsing strings and numbers.
+     */
+    private static Object readBoolean(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case STRING:
+            case NUMBER:
+                return Boolean.parseBoolean(reader.nextString());
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                final Object value = reader.hasNext() ? readBoolean(reader) : INVALID;
+                return endSingleElement(reader, value);
+            default:
+                reader.skipValue();
+                return INVALID;
+        }
+    }
+
+    /**
+     * Ends an array that is only valid with a single element.
+     */
+    private static Object endSingleElement(
+            final JsonReader reader,
+            final Object value
+    ) throws IOException {
+        final boolean single = !reader.hasNext();
+        while (reader.hasNext()) {
+            reader.skipValue();
+        }
+        reader.endArray();
+        return single ? value : INVALID;
+    }
+
+    private static int truncate(final String number) {
+        try {
+            return Integer.parseInt(number);
+        } catch (final NumberFormatException ignored) {
+            try {
+                return (int) Long.parseLong(number);
+            } catch (final NumberFormatException alsoIgnored) {
+                return new BigDecimal(number).intValue();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AbstractComponent> components(final Object components) {
+        return components == null ? new ArrayList<>() : (List<AbstractComponent>) components;
+    }
+
+    private static boolean isInvalid(final Object... values) {
+        for (final Object value : values) {
+            if (value == INVALID) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonReader reader(final String json) {
+        final JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+        return reader;
+    }
+
+}
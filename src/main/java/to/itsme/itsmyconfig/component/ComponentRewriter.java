@@ -0,0 +1,217 @@
+package to.itsme.itsmyconfig.component;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import to.itsme.itsmyconfig.ItsMyConfig;
+import to.itsme.itsmyconfig.util.CompiledTemplate;
+import to.itsme.itsmyconfig.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites a prefixed message directly on its adventure component tree.
+ * <br>
+ * Only the text nodes that contain tags or color codes are translated, every other node is kept and shared as-is.
+ * Unlike the MiniMessage round trip, tags written in a text node only apply to that node.
+ */
+public final class ComponentRewriter {
+
+    private static final ItsMyConfig plugin = ItsMyConfig.getInstance();
+
+    private final Player player;
+    private final String prefix;
+
+    private int prefixIndex;
+    private boolean prefixRemoved, failed, playerIndependent = true;
+
+    private ComponentRewriter(
+            final Player player,
+            final String prefix,
+            final int prefixIndex
+    ) {
+        this.player = player;
+        this.prefix = prefix;
+        this.prefixIndex = prefixIndex;
+    }
+
+    /**
+     * Removes the symbol prefix from a component and translates its text nodes.
+     *
+     * @param component The component, whose visible text must start with the prefix.
+     * @param prefix The symbol prefix.
+     * @param player The player the component is rewritten for.
+     * @return the rewritten component, or null if the prefix spans several nodes and the component can't be rewritten.
+     */
+    public static @Nullable Rewritten rewrite(
+            final @NotNull Component component,
+            final @NotNull String prefix,
+            final Player player
+    ) {
+        final int prefixIndex = VisibleText.fromComponent(component).indexOf(prefix);
+        if (prefixIndex == -1) {
+            return null;
+        }
+
+        final ComponentRewriter rewriter = new ComponentRewriter(player, prefix, prefixIndex);
+        final Component stripped = rewriter.strip(component);
+        if (rewriter.failed || !rewriter.prefixRemoved) {
+            return null;
+        }
+
+        final Component rewritten = rewriter.translate(stripped);
+        return new Rewritten(rewritten, rewriter.playerIndependent, isBlank(rewritten));
+    }
+
+    /**
+     * Removes the first occurrence of the prefix from the visible text.
+     */
+    private Component strip(final Component component) {
+        if (this.prefixRemoved || this.failed) {
+            return component;
+        }
+
+        Component result = component;
+        if (component instanceof TextComponent) {
+            final String content = ((TextComponent) component).content();
+            if (this.prefixIndex < content.length()) {
+                final int end = this.prefixIndex + this.prefix.length();
+                if (end > content.length()) {
+                    this.failed = true;
+                    return component;
+                }
+
+                result = ((TextComponent) component).content(content.substring(0, this.prefixIndex) + content.substring(end));
+                this.prefixRemoved = true;
+                return result;
+            }
+            this.prefixIndex -= content.length();
+        }
+
+        final List<Component> children = this.map(component.children(), true);
+        return children == null ? result : result.children(children);
+    }
+
+    /**
+     * Translates the text nodes that need it, keeping every untouched node by reference.
+     */
+    private Component translate(final Component component) {
+        Component result = component;
+
+        final List<Component> rewrittenChildren = this.map(component.children(), false);
+        final List<Component> children = rewrittenChildren == null ? component.children() : rewrittenChildren;
+
+        if (component instanceof TextComponent && needsTranslation(((TextComponent) component).content())) {
+            final CompiledTemplate template = plugin.getTemplateCache().get(((TextComponent) component).content().replace('§', '&'));
+            if (!template.isStatic()) {
+                this.playerIndependent = false;
+            }
+
+            final List<Component> translatedChildren = new ArrayList<>(children.size() + 1);
+            translatedChildren.add(Utilities.translate(template, this.player));
+            translatedChildren.addAll(children);
+            result = ((TextComponent) component).content("").children(translatedChildren);
+        } else if (rewrittenChildren != null) {
+            result = component.children(rewrittenChildren);
+        }
+
+        final HoverEvent<?> hoverEvent = component.hoverEvent();
+        if (hoverEvent != null && hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) {
+            final Component value = (Component) hoverEvent.value();
+            final Component translated = this.translate(value);
+            if (translated != value) {
+                result = result.hoverEvent(HoverEvent.showText(translated));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies {@link #strip(Component)} or {@link #translate(Component)} to a list of children.
+     *
+     * @return the new children, or null if none of them changed.
+     */
+    private List<Component> map(
+            final List<Component> children,
+            final boolean strip
+    ) {
+        List<Component> mapped = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Component child = children.get(i);
+            final Component result = strip ? this.strip(child) : this.translate(child);
+            if (mapped == null && result != child) {
+                mapped = new ArrayList<>(children.subList(0, i));
+            }
+
+            if (mapped != null) {
+                mapped.add(result);
+            }
+        }
+        return mapped;
+    }
+
+    private static boolean needsTranslation(final String content) {
+        return content.indexOf('<') != -1 || content.indexOf('&') != -1;
+    }
+
+    private static boolean isBlank(final Component component) {
+        if (!(component instanceof TextComponent) || !((TextComponent) component).content().isEmpty()) {
+            return false;
+        }
+
+        for (final Component child : component.children()) {
+            if (!isBlank(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Represents the result of a rewrite.
+     */
+    public static final class Rewritten {
+
+        private final Component component;
+        private final boolean playerIndependent, blank;
+
+        private Rewritten(
+                final Component component,
+                final boolean playerIndependent,
+                final boolean blank
+        ) {
+            this.component = component;
+            this.playerIndependent = playerIndependent;
+            this.blank = blank;
+        }
+
+        public Component getComponent() {
+            return this.component;
+        }
+
+        /**
+         * Checks if every translated node renders the same for every player.
+         *
+         * @return true if the result can be shared between players.
+         */
+        public boolean isPlayerIndependent() {
+            return this.playerIndependent;
+        }
+
+        /**
+         * Checks if the rewritten component has nothing left to show.
+         *
+         * @return true if the packet should be cancelled.
+         */
+        public boolean isBlank() {
+            return this.blank;
+        }
+
+    }
+
+}
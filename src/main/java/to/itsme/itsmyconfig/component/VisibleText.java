@@ -0,0 +1,171 @@
+package to.itsme.itsmyconfig.component;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import net.kyori.adventure.text.Component;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Extracts the text a player would actually see from a chat component, without building an {@link AbstractComponent} tree.
+ * <br>
+ * Only the contents of text components (and their children) are considered visible,
+ * matching what {@link AbstractComponent#toMiniMessage()} emits outside of tags.
+ */
+public final class VisibleText {
+
+    /**
+     * Scans a json chat component and collects its visible text in render order.
+     *
+     * @param json The raw json of the component.
+     * @return the visible text, or null if the json could not be scanned.
+     */
+    public static @Nullable String fromJson(final @NotNull String json) {
+        final StringBuilder builder = new StringBuilder();
+        try (final JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.setLenient(true);
+            appendElement(reader, builder);
+        } catch (final IOException | RuntimeException ignored) {
+            return null;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Walks bungee components and collects their visible text in render order.
+     *
+     * @param components The bungee components.
+     * @return the visible text.
+     */
+    public static @NotNull String fromComponents(final BaseComponent... components) {
+        final StringBuilder builder = new StringBuilder();
+        if (components != null) {
+            for (final BaseComponent component : components) {
+                appendComponent(component, builder);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Walks an adventure component and collects its visible text in render order.
+     *
+     * @param component The adventure component.
+     * @return the visible text.
+     */
+    public static @NotNull String fromComponent(final @NotNull Component component) {
+        final StringBuilder builder = new StringBuilder();
+        appendComponent(component, builder);
+        return builder.toString();
+    }
+
+    private static void appendComponent(
+            final Component component,
+            final StringBuilder builder
+    ) {
+        if (component instanceof net.kyori.adventure.text.TextComponent) {
+            builder.append(((net.kyori.adventure.text.TextComponent) component).content());
+        }
+
+        for (final Component child : component.children()) {
+            appendComponent(child, builder);
+        }
+    }
+
+    private static void appendComponent(
+            final BaseComponent component,
+            final StringBuilder builder
+    ) {
+        if (component == null) {
+            return;
+        }
+
+        if (component instanceof TextComponent) {
+            builder.append(((TextComponent) component).getText());
+        }
+
+        final List<BaseComponent> extra = component.getExtra();
+        if (extra != null) {
+            for (final BaseComponent child : extra) {
+                appendComponent(child, builder);
+            }
+        }
+    }
+
+    private static void appendElement(
+            final JsonReader reader,
+            final StringBuilder builder
+    ) throws IOException {
+        final JsonToken token = reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                appendObject(reader, builder);
+                break;
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    appendElement(reader, builder);
+                }
+                reader.endArray();
+                break;
+            case STRING:
+                builder.append(reader.nextString());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token " + token);
+        }
+    }
+
+    /**
+     * Appends the visible text of a json object.
+     * <br>
+     * Servers don't agree on key order (vanilla writes "extra" before "text"),
+     * so the object's own text is inserted in front of its children once found.
+     */
+    private static void appendObject(
+            final JsonReader reader,
+            final StringBuilder builder
+    ) throws IOException {
+        final int mark = builder.length();
+        int ownLength = 0;
+        boolean textless = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    final String text = reader.nextString();
+                    if (!textless) {
+                        builder.replace(mark, mark + ownLength, text);
+                        ownLength = text.length();
+                    }
+                    break;
+                case "translate":
+                case "keybind":
+                    textless = true;
+                    builder.delete(mark, mark + ownLength);
+                    ownLength = 0;
+                    reader.skipValue();
+                    break;
+                case "extra":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        appendElement(reader, builder);
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+}
@@ -15,6 +15,17 @@ public class ClickEvent {
     public ClickEvent() {
     }
 
+    /**
+     * Read event
+     */
+    public ClickEvent(
+            final String action,
+            final String value
+    ) {
+        this.action = action;
+        this.value = value;
+    }
+
     /**
      * {@link net.kyori.adventure.text.event.ClickEvent} convetrer to a {@link ClickEvent}
      */
@@ -27,7 +38,7 @@ public class ClickEvent {
         return "<click:" + this.action + ":\"" + this.value + "\">";
     }
 
-    public static final class Adapter implements JsonSerializer<ClickEvent>, JsonDeserializer<ClickEvent> {
+    public static final class Adapter implements JsonSerializer<ClickEvent> {
 
         public JsonElement serialize(
                 final ClickEvent event,
@@ -40,18 +51,6 @@ public class ClickEvent {
             return jsonObject;
         }
 
-        public ClickEvent deserialize(
-                final JsonElement json,
-                final Type type,
-                final JsonDeserializationContext context
-        ) throws JsonParseException {
-            final ClickEvent event = new ClickEvent();
-            final JsonObject jsonObject = json.getAsJsonObject();
-            event.action = jsonObject.has("action") ? jsonObject.get("action").getAsString() : null;
-            event.value = jsonObject.has("value") ? jsonObject.get("value").getAsString() : null;
-            return event;
-        }
-
     }
 
 }
@@ -20,6 +20,17 @@ public class HoverEvent {
     public HoverEvent() {
     }
 
+  /**
+   * Read event
+   */
+    public HoverEvent(
+            final String action,
+            final Object value
+    ) {
+        this.action = action;
+        this.value = value;
+    }
+
   /**
    * {@link net.kyori.adventure.text.event.HoverEvent} convetrer to a {@link HoverEvent}
    */
@@ -64,6 +75,14 @@ public class HoverEvent {
         public ShowItem() {
         }
 
+        public ShowItem(
+                final String item,
+                final int count
+        ) {
+            this.item = item;
+            this.count = count;
+        }
+
         public ShowItem(net.kyori.adventure.text.event.HoverEvent.ShowItem value) {
             this.item = value.item().value();
             this.count = value.count();
@@ -83,6 +102,14 @@ public class HoverEvent {
         public ShowEntity() {
         }
 
+        public ShowEntity(
+                final String type,
+                final UUID id
+        ) {
+            this.type = type;
+            this.id = id;
+        }
+
         public ShowEntity(net.kyori.adventure.text.event.HoverEvent.ShowEntity value) {
             this.type = value.type().value();
             this.id = value.id();
@@ -95,7 +122,7 @@ public class HoverEvent {
         }
     }
 
-    public static final class Adapter implements JsonSerializer<HoverEvent>, JsonDeserializer<HoverEvent> {
+    public static final class Adapter implements JsonSerializer<HoverEvent> {
 
         public JsonElement serialize(
                 final HoverEvent event,
@@ -117,47 +144,6 @@ public class HoverEvent {
             }
             return jsonObject;
         }
-
-        public HoverEvent deserialize(
-                final JsonElement json,
-                final Type type,
-                final JsonDeserializationContext context
-        ) throws JsonParseException {
-            final HoverEvent event = new HoverEvent();
-            final JsonObject jsonObject = json.getAsJsonObject();
-            event.action = jsonObject.get("action").getAsString();
-            if (jsonObject.has("value")) {
-                final JsonElement element = jsonObject.get("value");
-                switch (event.action) {
-                    default:
-                        if (element.isJsonPrimitive()) {
-                            event.value = new TextfulComponent(element.getAsString());
-                        } else if (element.isJsonArray()) {
-                            event.value = AbstractComponent.parse(element.getAsJsonArray());
-                        } else if (element.isJsonObject()) {
-                            event.value = context.deserialize(element, TextfulComponent.class);
-                        }
-                        break;
-                    case "show_achievement":
-                        event.value = element.getAsString();
-                        break;
-                    case "show_item":
-                        event.value = context.deserialize(element, HoverEvent.ShowItem.class);
-                        break;
-                    case "show_entity":
-                        event.value = context.deserialize(element, HoverEvent.ShowEntity.class);
-                        break;
-                }
-            } else if (jsonObject.has("contents")) {
-                final JsonElement element = jsonObject.get("contents");
-                if (element.isJsonPrimitive()) {
-                    event.value = new TextfulComponent(element.getAsString());
-                } else {
-                    event.value = context.deserialize(element, TextfulComponent.class);
-                }
-            }
-            return event;
-        }
     }
 
 }
@@ -6,6 +6,7 @@ import net.kyori.adventure.text.KeybindComponent;
 import to.itsme.itsmyconfig.component.AbstractComponent;
 
 import java.lang.reflect.Type;
+import java.util.List;
 
 public final class KeybindedComponent extends AbstractComponent {
 
@@ -16,6 +17,17 @@ public final class KeybindedComponent extends AbstractComponent {
      */
     public KeybindedComponent() {}
 
+    /**
+     * Read component
+     */
+    public KeybindedComponent(
+            final String keybind,
+            final List<AbstractComponent> extra
+    ) {
+        super(extra);
+        this.keybind = keybind;
+    }
+
     /**
      * {@link KeybindComponent} convetrer to a {@link KeybindedComponent}
      */
@@ -39,7 +51,7 @@ public final class KeybindedComponent extends AbstractComponent {
     }
 
 
-    public static final class Adapter implements JsonSerializer<KeybindedComponent>, JsonDeserializer<KeybindedComponent> {
+    public static final class Adapter implements JsonSerializer<KeybindedComponent> {
 
         @Override
         public JsonElement serialize(
@@ -63,29 +75,6 @@ public final class KeybindedComponent extends AbstractComponent {
             return jsonObject;
         }
 
-        @Override
-        public KeybindedComponent deserialize(
-                final JsonElement json,
-                final Type type,
-                final JsonDeserializationContext context
-        ) throws JsonParseException {
-            final JsonObject jsonObject = json.getAsJsonObject();
-            final KeybindedComponent component = new KeybindedComponent();
-            component.keybind = jsonObject.has("keybind") ? jsonObject.get("keybind").getAsString() : null;
-
-            if (jsonObject.has("extra")) {
-                final JsonArray extraArray = jsonObject.getAsJsonArray("extra");
-                for (final JsonElement element : extraArray) {
-                    final AbstractComponent extraComponent = AbstractComponent.parse(element);
-                    if (extraComponent != null) {
-                        component.extra.add(extraComponent);
-                    }
-                }
-            }
-
-            return component;
-        }
-
     }
 
 }
@@ -10,6 +10,7 @@ import to.itsme.itsmyconfig.component.event.ClickEvent;
 import to.itsme.itsmyconfig.component.event.HoverEvent;
 
 import java.lang.reflect.Type;
+import java.util.List;
 
 public final class TextfulComponent extends AbstractComponent {
 
@@ -40,6 +41,42 @@ public final class TextfulComponent extends AbstractComponent {
         this.text = text;
     }
 
+    /**
+     * Only children component
+     */
+    public TextfulComponent(final List<AbstractComponent> extra) {
+        super(extra);
+    }
+
+    /**
+     * Read component
+     */
+    public TextfulComponent(
+            final String text,
+            final String color,
+            final boolean bold,
+            final boolean italic,
+            final boolean underlined,
+            final boolean strikethrough,
+            final boolean obfuscated,
+            final String insertion,
+            final ClickEvent clickEvent,
+            final HoverEvent hoverEvent,
+            final List<AbstractComponent> extra
+    ) {
+        super(extra);
+        this.text = text;
+        this.color = color;
+        this.bold = bold;
+        this.italic = italic;
+        this.underlined = underlined;
+        this.strikethrough = strikethrough;
+        this.obfuscated = obfuscated;
+        this.insertion = insertion;
+        this.clickEvent = clickEvent;
+        this.hoverEvent = hoverEvent;
+    }
+
     /**
      * {@link TextComponent} convetrer to a {@link TextfulComponent}
      */
@@ -169,7 +206,7 @@ public final class TextfulComponent extends AbstractComponent {
         return builder.toString();
     }
 
-    public static final class Adapter implements JsonSerializer<TextfulComponent>, JsonDeserializer<TextfulComponent> {
+    public static final class Adapter implements JsonSerializer<TextfulComponent> {
 
         @Override
         public JsonElement serialize(
@@ -230,38 +267,6 @@ public final class TextfulComponent extends AbstractComponent {
             return jsonObject;
         }
 
-        @Override
-        public TextfulComponent deserialize(
-                final JsonElement json,
-                final Type type,
-                final JsonDeserializationContext context
-        ) throws JsonParseException {
-            final JsonObject jsonObject = json.getAsJsonObject();
-            final TextfulComponent component = new TextfulComponent();
-            component.text = jsonObject.has("text") ? jsonObject.get("text").getAsString() : null;
-            component.color = jsonObject.has("color") ? jsonObject.get("color").getAsString() : null;
-            component.bold = jsonObject.has("bold") && jsonObject.get("bold").getAsBoolean();
-            component.italic = jsonObject.has("italic") && jsonObject.get("italic").getAsBoolean();
-            component.underlined = jsonObject.has("underlined") && jsonObject.get("underlined").getAsBoolean();
-            component.strikethrough = jsonObject.has("strikethrough") && jsonObject.get("strikethrough").getAsBoolean();
-            component.obfuscated = jsonObject.has("obfuscated") && jsonObject.get("obfuscated").getAsBoolean();
-            component.insertion = jsonObject.has("insertion") ? jsonObject.get("insertion").getAsString() : null;
-            component.clickEvent = jsonObject.has("clickEvent") ? context.deserialize(jsonObject.get("clickEvent"), ClickEvent.class) : null;
-            component.hoverEvent = jsonObject.has("hoverEvent") ? context.deserialize(jsonObject.get("hoverEvent"), HoverEvent.class) : null;
-
-            if (jsonObject.has("extra")) {
-                final JsonArray extraArray = jsonObject.getAsJsonArray("extra");
-                for (final JsonElement element : extraArray) {
-                    final AbstractComponent extraComponent = AbstractComponent.parse(element);
-                    if (extraComponent != null) {
-                        component.extra.add(extraComponent);
-                    }
-                }
-            }
-
-            return component;
-        }
-
     }
 
 }
\ No newline at end of file
@@ -8,23 +8,41 @@ import net.kyori.adventure.text.format.TextColor;
 import to.itsme.itsmyconfig.component.AbstractComponent;
 
 import java.lang.reflect.Type;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 public class TranslatingComponent extends AbstractComponent {
 
     private String key, color;
-    private final List<AbstractComponent> with = new LinkedList<>();
+    private final List<AbstractComponent> with;
 
     /**
      * Empty Constructor
      */
-    public TranslatingComponent() {}
+    public TranslatingComponent() {
+        this.with = new ArrayList<>();
+    }
+
+    /**
+     * Read component
+     */
+    public TranslatingComponent(
+            final String key,
+            final String color,
+            final List<AbstractComponent> with,
+            final List<AbstractComponent> extra
+    ) {
+        super(extra);
+        this.key = key;
+        this.color = color;
+        this.with = with;
+    }
 
     /**
      * {@link TranslatableComponent} convetrer to a {@link TranslatingComponent}
      */
     public TranslatingComponent(final TranslatableComponent component) {
+        this.with = new ArrayList<>();
         this.key = component.key();
 
         final TextColor color = component.color();
@@ -68,7 +86,7 @@ public class TranslatingComponent extends AbstractComponent {
         return builder.toString();
     }
 
-    public static final class Adapter implements JsonSerializer<TranslatingComponent>, JsonDeserializer<TranslatingComponent> {
+    public static final class Adapter implements JsonSerializer<TranslatingComponent> {
 
         @Override
         public JsonElement serialize(
@@ -104,40 +122,6 @@ public class TranslatingComponent extends AbstractComponent {
             return jsonObject;
         }
 
-        @Override
-        public TranslatingComponent deserialize(
-                final JsonElement json,
-                final Type type,
-                final JsonDeserializationContext jsonDeserializationContext
-        ) throws JsonParseException {
-            final JsonObject jsonObject = json.getAsJsonObject();
-            final TranslatingComponent component = new TranslatingComponent();
-            component.key = jsonObject.has("translate") ? jsonObject.get("translate").getAsString() : null;
-            component.color = jsonObject.has("color") ? jsonObject.get("color").getAsString() : null;
-
-            if (jsonObject.has("with")) {
-                final JsonArray extraArray = jsonObject.getAsJsonArray("with");
-                for (final JsonElement element : extraArray) {
-                    final AbstractComponent extraComponent = AbstractComponent.parse(element);
-                    if (extraComponent != null) {
-                        component.with.add(extraComponent);
-                    }
-                }
-            }
-
-            if (jsonObject.has("extra")) {
-                final JsonArray extraArray = jsonObject.getAsJsonArray("extra");
-                for (final JsonElement element : extraArray) {
-                    final AbstractComponent extraComponent = AbstractComponent.parse(element);
-                    if (extraComponent != null) {
-                        component.extra.add(extraComponent);
-                    }
-                }
-            }
-
-            return component;
-        }
-
     }
 
 }
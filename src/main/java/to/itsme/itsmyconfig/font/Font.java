@@ -1,100 +1,266 @@
 package to.itsme.itsmyconfig.font;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.minimessage.tag.TagPattern;
-import to.itsme.itsmyconfig.util.Strings;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+import to.itsme.itsmyconfig.ItsMyConfig;
 
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
-public enum Font {
-    SMALL_CAPS(
+/**
+ * Represents a font, replacing characters by their styled counterparts.
+ * <br>
+ * The replacements are stored in a table indexed by code point, accented letters the font doesn't map
+ * are folded into the same table, so applying a font is a single pass over the text.
+ * Fonts are either built-in or declared in the fonts section of the config.
+ */
+public final class Font {
+
+    /**
+     * Represents the accented letters folded into their base letter, at the same index.
+     */
+    private static final String ACCENTED = "ÀÂàâÉÈÊéèêÎîÔôÛûÇç", UNACCENTED = "AAaaEEEeeeIiOoUuCc";
+
+    /**
+     * Represents the valid font names, usable both as tags and in the font placeholder.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9-]+");
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+    public static final Font SMALL_CAPS = new Font(
             "smallcaps",
             "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzÑÓÚñóú",
             "ᴀʙᴄᴅᴇꜰɢʜɪᴊᴋʟᴍɴᴏᴘǫʀsᴛᴜᴠᴡxʏᴢᴀʙᴄᴅᴇꜰɢʜɪᴊᴋʟᴍɴᴏᴘǫʀsᴛᴜᴠᴡxʏᴢɴᴏᴜɴᴏᴜ"
-    ),
-    UPSIDE_DOWN(
+    );
+
+    public static final Font UPSIDE_DOWN = new Font(
             "upsidedown",
             "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz",
             "∀qƆpƎℲפHIſʞ˥WNOԀQɹS┴∩ΛMX⅄Zɐqɔpǝɟƃɥᴉɾʞlɯuodbɹsʇnʌʍxʎz"
     );
 
-    private final Map<Character, Character> characterMap;
-    private final TextReplacementConfig config;
+    /**
+     * Represents the registered fonts by name, replaced at once when the config is loaded.
+     */
+    private static volatile Map<String, Font> fonts = builtIn();
+
     private final @TagPattern String name;
+    private final FontTag tag;
 
-    Font(
+    /**
+     * Represents the replacement of every code point, 0 for the ones kept as-is.
+     */
+    private final int[] table;
+
+    private Font(
             @TagPattern final String name,
             final String original,
             final String replacements
     ) {
         this.name = name;
-        this.characterMap = createMapping(original, replacements);
-        this.config = createConfig();
+        this.table = createTable(original, replacements);
+        this.tag = new FontTag(this);
+    }
+
+    /**
+     * Retrieves a registered font.
+     *
+     * @param name The name of the font, case-insensitive.
+     * @return the font, or null if there is none with that name.
+     */
+    public static @Nullable Font get(final String name) {
+        return fonts.get(name.toLowerCase());
+    }
+
+    /**
+     * Retrieves all registered fonts.
+     *
+     * @return the built-in and configured fonts.
+     */
+    public static Collection<Font> getFonts() {
+        return fonts.values();
+    }
+
+    /**
+     * Registers the built-in fonts along with the configured ones, replacing the previously configured fonts.
+     * <br>
+     * Every font is declared by the characters it replaces and their replacements, in the same order:
+     * <pre>
+     * fonts:
+     *   serif-bold:
+     *     from: "ABC"
+     *     to: "𝐀𝐁𝐂"
+     * </pre>
+     * Names of the standard MiniMessage tags, such as bold or rainbow, are rejected since those tags take precedence.
+     *
+     * @param section The fonts section of the config, or null if there is none.
+     */
+    public static void load(final @Nullable ConfigurationSection section) {
+        final Map<String, Font> loaded = builtIn();
+        if (section != null) {
+            for (final String key : section.getKeys(false)) {
+                final String name = key.toLowerCase();
+                final String from = section.getString(key + ".from"), to = section.getString(key + ".to");
+                if (!NAME_PATTERN.matcher(name).matches() || from == null || to == null) {
+                    ItsMyConfig.getInstance().getLogger().warning("Font \"" + key + "\" needs a name made of letters, digits and dashes, a \"from\" and a \"to\" value.");
+                    continue;
+                }
+
+                if (StandardTags.defaults().has(name)) {
+                    ItsMyConfig.getInstance().getLogger().warning("Font \"" + key + "\" has the name of a MiniMessage tag, rename it to use it.");
+                    continue;
+                }
+
+                try {
+                    loaded.put(name, new Font(name, from, to));
+                } catch (final IllegalArgumentException e) {
+                    ItsMyConfig.getInstance().getLogger().warning("Font \"" + key + "\" is invalid: " + e.getMessage());
+                }
+            }
+        }
+        fonts = Collections.unmodifiableMap(loaded);
     }
 
     public @TagPattern String getName() {
         return name;
     }
 
-    private TextReplacementConfig createConfig() {
-        final TextReplacementConfig.Builder config = TextReplacementConfig.builder();
-        config.match(Strings.LETTERS_PATTERN).replacement((matchResult, builder) -> {
-            final String text = this.apply(matchResult.group());
-            return Component.text().content(text);
-        });
-        return config.build();
+    /**
+     * Retrieves the MiniMessage tag applying this font.
+     *
+     * @return the tag.
+     */
+    public FontTag getTag() {
+        return this.tag;
     }
 
+    /**
+     * Applies the font to a text.
+     *
+     * @param text The text.
+     * @return the styled text, the same instance if the font doesn't change any character of it.
+     */
     public String apply(final String text) {
-        final byte[] bytes = this.englishify(text).getBytes(StandardCharsets.UTF_8);
-        final StringBuilder builder = new StringBuilder();
-        for (byte messageByte : bytes) {
-            final char originalChar = (char) messageByte;
-            final char styledChar = characterMap.getOrDefault(originalChar, originalChar);
-            builder.append(styledChar);
+        final int length = text.length();
+        char[] buffer = null;
+        int position = 0;
+        for (int index = 0; index < length; ) {
+            final int codePoint = text.codePointAt(index);
+            final int replacement = codePoint < this.table.length ? this.table[codePoint] : 0;
+            if (replacement != 0 && buffer == null) {
+                // a single char can be replaced by a surrogate pair at most
+                buffer = buffer(length * 2);
+                text.getChars(0, index, buffer, 0);
+                position = index;
+            }
+
+            if (buffer != null) {
+                position += Character.toChars(replacement != 0 ? replacement : codePoint, buffer, position);
+            }
+            index += Character.charCount(codePoint);
         }
-        return builder.toString();
+        return buffer == null ? text : new String(buffer, 0, position);
     }
 
-    public String englishify(final String text) {
-        return text
-                .replace("À", "A")
-                .replace("Â", "A")
-                .replace("à", "a")
-                .replace("â", "a")
-                .replace("É", "E")
-                .replace("È", "E")
-                .replace("Ê", "E")
-                .replace("é", "e")
-                .replace("è", "e")
-                .replace("ê", "e")
-                .replace("Î", "I")
-                .replace("î", "i")
-                .replace("Ô", "O")
-                .replace("ô", "o")
-                .replace("Û", "U")
-                .replace("û", "u")
-                .replace("Ç", "C")
-                .replace("ç", "c");
+    /**
+     * Applies the font to the text of a component, its children, translation arguments and hover text.
+     *
+     * @param component The component.
+     * @return the styled component.
+     */
+    public Component apply(final Component component) {
+        Component result = component;
+        if (result instanceof TextComponent) {
+            final TextComponent text = (TextComponent) result;
+            final String content = this.apply(text.content());
+            if (content != text.content()) {
+                result = text.content(content);
+            }
+        } else if (result instanceof TranslatableComponent && !((TranslatableComponent) result).arguments().isEmpty()) {
+            final List<ComponentLike> arguments = new ArrayList<>();
+            for (final TranslationArgument argument : ((TranslatableComponent) result).arguments()) {
+                arguments.add(argument.value() instanceof Component ? this.apply((Component) argument.value()) : argument);
+            }
+            result = ((TranslatableComponent) result).arguments(arguments);
+        }
+
+        final HoverEvent<?> hover = result.hoverEvent();
+        if (hover != null && hover.action() == HoverEvent.Action.SHOW_TEXT) {
+            result = result.hoverEvent(HoverEvent.showText(this.apply((Component) hover.value())));
+        }
+
+        final List<Component> children = result.children();
+        if (!children.isEmpty()) {
+            final List<Component> styled = new ArrayList<>(children.size());
+            for (final Component child : children) {
+                styled.add(this.apply(child));
+            }
+            result = result.children(styled);
+        }
+        return result;
     }
 
-    public Component apply(final Component component) {
-        return component.replaceText(config);
+    private static Map<String, Font> builtIn() {
+        final Map<String, Font> fonts = new LinkedHashMap<>();
+        fonts.put(SMALL_CAPS.name, SMALL_CAPS);
+        fonts.put(UPSIDE_DOWN.name, UPSIDE_DOWN);
+        return fonts;
+    }
+
+    private static char[] buffer(final int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[length];
+            BUFFER.set(buffer);
+        }
+        return buffer;
     }
 
-    private static Map<Character, Character> createMapping(final String original, final String replacements) {
-        if (original.length() != replacements.length()) {
+    private static int[] createTable(
+            final String original,
+            final String replacements
+    ) {
+        final int[] sources = original.codePoints().toArray();
+        final int[] targets = replacements.codePoints().toArray();
+        if (sources.length != targets.length) {
             throw new IllegalArgumentException("Original and replacement texts must be of the same length.");
         }
 
-        final Map<Character, Character> mapping = new HashMap<>();
-        for (int i = 0; i < original.length(); i++) {
-            mapping.put(original.charAt(i), replacements.charAt(i));
+        int maximum = 0;
+        for (int i = 0; i < ACCENTED.length(); i++) {
+            maximum = Math.max(maximum, ACCENTED.charAt(i));
+        }
+        for (final int source : sources) {
+            maximum = Math.max(maximum, source);
+        }
+
+        final int[] table = new int[maximum + 1];
+        for (int i = 0; i < sources.length; i++) {
+            table[sources[i]] = targets[i];
+        }
+
+        // accented letters become their base letter, styled if the font maps it, unless the font maps them itself
+        for (int i = 0; i < ACCENTED.length(); i++) {
+            final char accented = ACCENTED.charAt(i), base = UNACCENTED.charAt(i);
+            if (table[accented] == 0) {
+                table[accented] = table[base] != 0 ? table[base] : base;
+            }
         }
-        return mapping;
+        return table;
     }
 
 }
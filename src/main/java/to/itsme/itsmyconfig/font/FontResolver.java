@@ -0,0 +1,30 @@
+package to.itsme.itsmyconfig.font;
+
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the tags of the registered fonts, looked up when parsing so configured fonts apply after a reload.
+ */
+public final class FontResolver implements TagResolver {
+
+    @Override
+    public @Nullable Tag resolve(
+            final @NotNull String name,
+            final @NotNull ArgumentQueue arguments,
+            final @NotNull Context ctx
+    ) {
+        final Font font = Font.get(name);
+        return font == null ? null : font.getTag();
+    }
+
+    @Override
+    public boolean has(final @NotNull String name) {
+        return Font.get(name) != null;
+    }
+
+}
@@ -11,6 +11,9 @@ import to.itsme.itsmyconfig.placeholder.PlaceholderType;
 import to.itsme.itsmyconfig.font.Font;
 import to.itsme.itsmyconfig.util.Strings;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * DynamicPlaceHolder class is a PlaceholderExpansion that handles dynamic placeholders for the ItsMyConfig plugin.
  * It provides methods for handling various types of placeholders, such as fonts, progress bars, and custom placeholders.
@@ -37,6 +40,15 @@ public final class PAPIHook extends PlaceholderExpansion {
     public static final String PLACEHOLDER_NOT_FOUND_MSG = "Placeholder not found";
     private final String identifier;
 
+    /**
+     * Represents the arguments of a placeholder requested without any.
+     */
+    private static final String[] NO_ARGUMENTS = new String[0];
+    /**
+     * Represents the color modes, which are separated from the text with "::".
+     */
+    private static final String[] MODES = {"m", "l", "c", "mini", "legacy", "console"};
+
     /**
      * DynamicPlaceHolder is a class that represents a dynamic placeholder for a placeholder expansion.
      * It handles different types of placeholders and provides methods to handle font, progress, and custom placeholders.
@@ -97,19 +109,91 @@ public final class PAPIHook extends PlaceholderExpansion {
      */
     @Override
     public @Nullable String onPlaceholderRequest(final Player player, @NotNull String params) {
-        params = PlaceholderAPI.setPlaceholders(player, params.replaceAll("\\$\\((.*?)\\)\\$", "%$1%"));
-        params = PlaceholderAPI.setBracketPlaceholders(player, params);
+        params = convertNestedPlaceholders(params);
+        if (params.indexOf('%') != -1) {
+            params = PlaceholderAPI.setPlaceholders(player, params);
+        }
+        if (params.indexOf('{') != -1) {
+            params = PlaceholderAPI.setBracketPlaceholders(player, params);
+        }
+
+        // trailing separators are ignored, like String#split does
+        int end = params.length();
+        while (end > 0 && params.charAt(end - 1) == '_') {
+            end--;
+        }
 
-        final String[] splitParams = params.split("_");
-        if (splitParams.length == 0) {
+        if (end == 0 && !params.isEmpty()) {
             return ILLEGAL_ARGUMENT_MSG;
         }
 
-        final String firstParam = splitParams[0].toLowerCase();
-        if (("font".equals(firstParam) || "f".equals(firstParam)) && splitParams.length >= 3) {
-            return handleFont(splitParams);
+        int separator = params.indexOf('_');
+        if (separator == -1 || separator >= end) {
+            separator = end;
+        }
+
+        if (separator != end && isFontPrefix(params, separator)) {
+            final String[] splitParams = params.split("_");
+            if (splitParams.length >= 3) {
+                return handleFont(splitParams);
+            }
+        }
+
+        return handlePlaceholder(params, separator, end, player);
+    }
+
+    /**
+     * Converts the nested placeholders written as {@code $(placeholder)$} into {@code %placeholder%}.
+     *
+     * @param params The placeholder parameters string.
+     * @return the parameters with nested placeholders converted, the same instance if there are none.
+     */
+    private static String convertNestedPlaceholders(final String params) {
+        int start = params.indexOf("$(");
+        if (start == -1) {
+            return params;
+        }
+
+        StringBuilder builder = null;
+        int copied = 0;
+        while (start != -1) {
+            int close = start + 2;
+            while (close < params.length() && !isLineTerminator(params.charAt(close))
+                    && !(params.charAt(close) == ')' && close + 1 < params.length() && params.charAt(close + 1) == '$')) {
+                close++;
+            }
+
+            if (close >= params.length()) {
+                break;
+            }
+
+            if (isLineTerminator(params.charAt(close))) {
+                // no nested placeholder can span a line
+                start = params.indexOf("$(", close + 1);
+                continue;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder(params.length());
+            }
+            builder.append(params, copied, start).append('%').append(params, start + 2, close).append('%');
+            copied = close + 2;
+            start = params.indexOf("$(", copied);
         }
-        return handlePlaceholder(splitParams, player);
+
+        return builder == null ? params : builder.append(params, copied, params.length()).toString();
+    }
+
+    private static boolean isLineTerminator(final char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+
+    private static boolean isFontPrefix(
+            final String params,
+            final int length
+    ) {
+        return (length == 1 && params.regionMatches(true, 0, "f", 0, 1))
+                || (length == 4 && params.regionMatches(true, 0, "font", 0, 4));
     }
 
     /**
@@ -127,72 +211,101 @@ public final class PAPIHook extends PlaceholderExpansion {
             } catch (NumberFormatException e) {
                 return ILLEGAL_NUMBER_FORMAT_MSG;
             }
-        } else if ("smallcaps".equals(fontType)) {
+        }
+
+        final Font font = Font.get(fontType);
+        if (font == Font.SMALL_CAPS) {
             String message = splitParams[2].toLowerCase();
-            return Font.SMALL_CAPS.apply(message);
+            return font.apply(message);
+        } else if (font != null) {
+            return font.apply(splitParams[2]);
         }
         return "ERROR";
     }
 
     /**
      * Handles the placeholder based on the params and player.
+     * <br>
+     * The arguments are sliced right out of the params, the placeholder name being everything before the first '_'.
      *
-     * @param params The array of split parameters.
-     * @param player      The player object.
+     * @param params    The placeholder parameters string.
+     * @param separator The index of the first '_', or the end if there is none.
+     * @param end       The end of the params, without the trailing '_'.
+     * @param player    The player object.
      * @return The formatted string.
      */
     private String handlePlaceholder(
-            final String[] params,
+            final String params,
+            final int separator,
+            final int end,
             final Player player
     ) {
-        final Placeholder placeholder = plugin.getPlaceholderManager().get(params[0]);
+        final Placeholder placeholder = plugin.getPlaceholderManager().get(params.substring(0, separator));
         if (placeholder == null) {
             return PLACEHOLDER_NOT_FOUND_MSG;
         }
 
-        if (params.length == 1) {
-            return placeholder.asString(player, new String[0]);
+        if (separator == end) {
+            return placeholder.asString(player, NO_ARGUMENTS);
         }
 
-        final String firstParam = params[1];
-        if (params.length == 2) {
-            return placeholder.asString(player, firstParam.split("::"));
+        final int restStart = separator + 1;
+        final int secondSeparator = params.indexOf('_', restStart);
+        if (secondSeparator == -1 || secondSeparator >= end) {
+            return placeholder.asString(player, split(params, restStart, end, "::"));
         }
 
-        final StringBuilder builder = new StringBuilder();
-        builder.append(firstParam);
-
         final PlaceholderType type = placeholder.getType();
-        switch (type) {
-            case COLOR:
-            case COLORED_TEXT:
-                switch (firstParam.toLowerCase()) {
-                    case "m":
-                    case "l":
-                    case "c":
-                    case "mini":
-                    case "legacy":
-                    case "console":
-                        builder.append("::");
-                        break;
-                    default:
-                        builder.append("_");
-                        break;
-                }
-                break;
-            default:
-                builder.append("_");
-                break;
+        if ((type == PlaceholderType.COLOR || type == PlaceholderType.COLORED_TEXT) && isModeParameter(params, restStart, secondSeparator)) {
+            // the mode is separated from the text by "::" instead of '_'
+            final String joined = params.substring(restStart, secondSeparator) + "::" + params.substring(secondSeparator + 1, end);
+            return placeholder.asString(player, split(joined, 0, joined.length(), "::"));
         }
 
-        for (int i = 2; i < params.length; i++) {
-            builder.append(params[i]);
-            if (i < params.length - 1) {
-                builder.append("_");
+        return placeholder.asString(player, split(params, restStart, end, type == PlaceholderType.PROGRESS_BAR ? "_" : "::"));
+    }
+
+    private static boolean isModeParameter(
+            final String params,
+            final int start,
+            final int end
+    ) {
+        for (final String mode : MODES) {
+            if (end - start == mode.length() && params.regionMatches(true, start, mode, 0, mode.length())) {
+                return true;
             }
         }
+        return false;
+    }
 
-        return placeholder.asString(player, builder.toString().split(type == PlaceholderType.PROGRESS_BAR ? "_" : "::"));
+    /**
+     * Splits a part of a string around a literal separator, dropping trailing empty strings like {@link String#split(String)}.
+     */
+    private static String[] split(
+            final String text,
+            final int start,
+            final int end,
+            final String separator
+    ) {
+        int found = text.indexOf(separator, start);
+        if (found == -1 || found + separator.length() > end) {
+            return new String[]{text.substring(start, end)};
+        }
+
+        final List<String> parts = new ArrayList<>(4);
+        int from = start;
+        while (found != -1 && found + separator.length() <= end) {
+            parts.add(text.substring(from, found));
+            from = found + separator.length();
+            found = text.indexOf(separator, from);
+        }
+        parts.add(text.substring(from, end));
+
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size).toArray(new String[0]);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package to.itsme.itsmyconfig.listener;
+
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.async.AsyncListenerHandler;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketEvent;
+import com.google.common.collect.MapMaker;
+import to.itsme.itsmyconfig.util.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Moves packet rewriting off the sending thread onto ProtocolLib's asynchronous workers.
+ * <br>
+ * The synchronous listener only defers packets here, and keeps rewriting them itself once the queue is full.
+ * ProtocolLib holds back every packet of a player until the ones queued before it were processed,
+ * so the per-player order is kept in both cases.
+ */
+public final class AsyncPacketPipeline {
+
+    /**
+     * The packets waiting for a worker, keyed by identity since some packets are records.
+     */
+    private final Map<Object, Boolean> deferred = new MapMaker().weakKeys().makeMap();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private final PacketListener listener;
+    private final Consumer<PacketEvent> rewriter;
+    private final int queueSize;
+    private AsyncListenerHandler handler;
+
+    /**
+     * Creates an async pipeline for a listener.
+     *
+     * @param listener The synchronous listener whose packets are deferred.
+     * @param rewriter The rewriting logic to run on the workers.
+     * @param queueSize The maximum amount of packets waiting for a worker.
+     */
+    public AsyncPacketPipeline(
+            final PacketListener listener,
+            final Consumer<PacketEvent> rewriter,
+            final int queueSize
+    ) {
+        this.listener = listener;
+        this.rewriter = rewriter;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Registers the asynchronous listener and starts its workers.
+     *
+     * @param workers The amount of worker threads.
+     */
+    public void start(final int workers) {
+        this.handler = ProtocolLibrary.getProtocolManager().getAsynchronousManager().registerAsyncHandler(
+                new PacketAdapter(listener.getPlugin(), ListenerPriority.NORMAL, listener.getSendingWhitelist().getTypes()) {
+                    @Override
+                    public void onPacketSending(final PacketEvent event) {
+                        process(event);
+                    }
+                }
+        );
+        this.handler.start(Math.max(1, workers));
+    }
+
+    /**
+     * Stops the workers and unregisters the asynchronous listener.
+     */
+    public void stop() {
+        if (this.handler != null) {
+            ProtocolLibrary.getProtocolManager().getAsynchronousManager().unregisterAsyncHandler(this.handler);
+            this.handler = null;
+        }
+    }
+
+    /**
+     * Hands a packet over to the workers.
+     *
+     * @param event The packet event, on the sending thread.
+     * @return true if the packet was deferred, false if the queue is full and the packet must be rewritten synchronously.
+     */
+    public boolean defer(final PacketEvent event) {
+        if (this.deferred.size() >= this.queueSize) {
+            this.fallbacks.increment();
+            return false;
+        }
+
+        this.deferred.put(event.getPacket().getHandle(), Boolean.TRUE);
+        return true;
+    }
+
+    private void process(final PacketEvent event) {
+        // packets rewritten synchronously still pass through here, they must not be rewritten twice
+        if (this.deferred.remove(event.getPacket().getHandle()) == null) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            this.rewriter.accept(event);
+        } finally {
+            this.latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Retrieves the latency of the rewrites done on the workers.
+     *
+     * @return the async latency histogram.
+     */
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    /**
+     * Retrieves the amount of packets rewritten synchronously because the queue was full.
+     *
+     * @return the amount of fallbacks.
+     */
+    public long getFallbacks() {
+        return this.fallbacks.sum();
+    }
+
+    /**
+     * Retrieves the amount of packets waiting for a worker.
+     *
+     * @return the current queue size.
+     */
+    public int getQueued() {
+        return this.deferred.size();
+    }
+
+}
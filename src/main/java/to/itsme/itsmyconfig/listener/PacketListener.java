@@ -4,16 +4,17 @@ import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.events.ListenerPriority;
 import com.comphenix.protocol.events.PacketAdapter;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.Nullable;
 import to.itsme.itsmyconfig.ItsMyConfig;
 import to.itsme.itsmyconfig.util.Strings;
 
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class PacketListener extends PacketAdapter {
 
     protected final ItsMyConfig plugin;
-    private final Pattern colorSymbolPattern, symbolPrefixPattern;
     protected final GsonComponentSerializer gsonComponentSerializer = GsonComponentSerializer.gson();
+    private final LongAdder prefilterHits = new LongAdder(), prefilterMisses = new LongAdder();
 
     public PacketListener(
             final ItsMyConfig plugin,
@@ -21,8 +22,6 @@ public abstract class PacketListener extends PacketAdapter {
     ) {
         super(plugin, ListenerPriority.NORMAL, types);
         this.plugin = plugin;
-        this.colorSymbolPattern = Pattern.compile(Pattern.quote("§"));
-        this.symbolPrefixPattern = Pattern.compile(Pattern.quote(plugin.getSymbolPrefix()));
     }
 
     /**
@@ -33,7 +32,7 @@ public abstract class PacketListener extends PacketAdapter {
      * @param message the provided message
      */
     protected String processMessage(final String message) {
-        return colorSymbolPattern.matcher(symbolPrefixPattern.matcher(message).replaceFirst("")).replaceAll("&");
+        return Strings.processMessage(message, plugin.getSymbolPrefix());
     }
 
     /**
@@ -45,7 +44,43 @@ public abstract class PacketListener extends PacketAdapter {
             return false;
         }
 
-        return Strings.TAG_PATTERN.matcher(Strings.colorless(message)).replaceAll("").trim().startsWith(plugin.getSymbolPrefix());
+        return Strings.startsWithVisible(message, plugin.getSymbolPrefix());
+    }
+
+    /**
+     * Checks the visible text of a packet before any parsing happens
+     * <br>
+     * Packets that are rejected here can never start with the symbol prefix, so they are skipped entirely
+     *
+     * @param visibleText the visible text of the packet, or null if it couldn't be extracted
+     * @return true if the packet has to be fully processed
+     */
+    protected boolean passesPrefilter(final @Nullable String visibleText) {
+        if (visibleText != null && !this.startsWithSymbol(visibleText)) {
+            this.prefilterHits.increment();
+            return false;
+        }
+
+        this.prefilterMisses.increment();
+        return true;
+    }
+
+    /**
+     * Retrieves the amount of packets rejected by the prefilter.
+     *
+     * @return the amount of packets that skipped parsing.
+     */
+    public long getPrefilterHits() {
+        return this.prefilterHits.sum();
+    }
+
+    /**
+     * Retrieves the amount of packets that went through the prefilter.
+     *
+     * @return the amount of packets that had to be fully parsed.
+     */
+    public long getPrefilterMisses() {
+        return this.prefilterMisses.sum();
     }
 
 }
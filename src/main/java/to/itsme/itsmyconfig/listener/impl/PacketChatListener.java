@@ -8,15 +8,26 @@ import com.comphenix.protocol.wrappers.AdventureComponentConverter;
 import com.comphenix.protocol.wrappers.WrappedChatComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.entity.Player;
 import to.itsme.itsmyconfig.ItsMyConfig;
 import to.itsme.itsmyconfig.component.AbstractComponent;
+import to.itsme.itsmyconfig.component.ComponentRewriter;
+import to.itsme.itsmyconfig.component.VisibleText;
+import to.itsme.itsmyconfig.listener.AsyncPacketPipeline;
 import to.itsme.itsmyconfig.listener.PacketListener;
+import to.itsme.itsmyconfig.util.CompiledTemplate;
+import to.itsme.itsmyconfig.util.LatencyHistogram;
+import to.itsme.itsmyconfig.util.Ticks;
 import to.itsme.itsmyconfig.util.Utilities;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 public final class PacketChatListener extends PacketListener {
 
@@ -24,6 +35,14 @@ public final class PacketChatListener extends PacketListener {
     private final Method fromComponent;
     private final BungeeComponentSerializer bungee = BungeeComponentSerializer.get();
 
+    @SuppressWarnings("unchecked")
+    private final Map<String, Rendered>[] renders = new Map[ResponseType.values().length];
+    private final LongAdder sharedRenders = new LongAdder();
+    private volatile long renderTick = -1;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private AsyncPacketPipeline pipeline;
+
     public PacketChatListener(
             final ItsMyConfig plugin
     ) {
@@ -46,41 +65,134 @@ public final class PacketChatListener extends PacketListener {
 
         this.fromComponent = fromComponent;
         this.internalAdventure = this.fromComponent != null;
+
+        for (int i = 0; i < this.renders.length; i++) {
+            this.renders[i] = new ConcurrentHashMap<>();
+        }
     }
 
     @Override
     public void onPacketSending(final PacketEvent event) {
+        final long start = System.nanoTime();
+        if (this.pipeline == null || !this.pipeline.defer(event)) {
+            this.rewrite(event);
+        }
+        this.latency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Starts rewriting packets on ProtocolLib's asynchronous workers.
+     *
+     * @param workers The amount of worker threads.
+     * @param queueSize The amount of packets that can wait for a worker before falling back to synchronous rewriting.
+     */
+    public void enableAsync(
+            final int workers,
+            final int queueSize
+    ) {
+        if (this.pipeline == null) {
+            this.pipeline = new AsyncPacketPipeline(this, this::rewrite, queueSize);
+            this.pipeline.start(workers);
+        }
+    }
+
+    /**
+     * Stops rewriting packets asynchronously, does nothing if it wasn't enabled.
+     */
+    public void disableAsync() {
+        if (this.pipeline != null) {
+            this.pipeline.stop();
+            this.pipeline = null;
+        }
+    }
+
+    private void rewrite(final PacketEvent event) {
         final PacketContainer container = event.getPacket();
         Utilities.debug(() -> "################# CHAT PACKET #################\nProccessing packet " + container.getType().name());
-        final PacketResponse response = this.processPacket(container);
-        if (response == null || response.message.isEmpty()) {
-            Utilities.debug(() -> "Packet is null or empty\n###############################################");
+        final long tick = Ticks.current();
+        final PacketResponse response = this.processPacket(container, tick);
+        if (response == null) {
+            Utilities.debug(() -> "Packet is null or rejected by the prefilter\n###############################################");
+            return;
+        }
+
+        if (response.shared != null) {
+            Utilities.debug(() -> "Reusing the render shared in this tick");
+            this.sharedRenders.increment();
+            this.apply(event, container, response.type, response.shared);
             return;
         }
 
         final String message = response.message;
+        if (message.isEmpty()) {
+            Utilities.debug(() -> "Packet is empty\n###############################################");
+            return;
+        }
+
         Utilities.debug(() -> "Checking: " + message);
         if (!this.startsWithSymbol(message)) {
+            this.share(response, new Rendered(tick, null));
             Utilities.debug(() -> "Message doesn't start w/ the symbol-prefix: " + message + "\n###############################################");
             return;
         }
 
         final Player player = event.getPlayer();
-        final Component parsed = Utilities.translate(this.processMessage(message), player);
+        String legacy = message;
+        if (response.component != null) {
+            final ComponentRewriter.Rewritten rewritten = ComponentRewriter.rewrite(response.component, plugin.getSymbolPrefix(), player);
+            if (rewritten != null) {
+                final Rendered rendered = new Rendered(tick, rewritten.isBlank() ? Component.empty() : rewritten.getComponent());
+                if (rewritten.isPlayerIndependent()) {
+                    this.share(response, rendered);
+                }
+
+                this.apply(event, container, response.type, rendered);
+                return;
+            }
+
+            Utilities.debug(() -> "Prefix spans several components, falling back to MiniMessage");
+            legacy = AbstractComponent.parse(response.key).toMiniMessage();
+        }
+
+        // fetched once, the cache compiles the text again on every lookup when it is disabled
+        final CompiledTemplate template = plugin.getTemplateCache().get(this.processMessage(legacy));
+        final Rendered rendered = new Rendered(tick, Utilities.translate(template, player));
+        if (template.isStatic()) {
+            this.share(response, rendered);
+        }
+
+        this.apply(event, container, response.type, rendered);
+    }
+
+    /**
+     * Writes a rendered message into the packet, or cancels the packet if the message is empty.
+     */
+    private void apply(
+            final PacketEvent event,
+            final PacketContainer container,
+            final ResponseType type,
+            final Rendered rendered
+    ) {
+        final Component parsed = rendered.component;
+        if (parsed == null) {
+            Utilities.debug(() -> "Message doesn't start w/ the symbol-prefix\n###############################################");
+            return;
+        }
+
         if (parsed.equals(Component.empty())) {
             event.setCancelled(true);
             Utilities.debug(() -> "Component is empty, cancelling...\n###############################################");
             return;
         }
 
-        Utilities.debug(() -> "Overriding Message as " + response.type.name());
-        switch (response.type) {
+        Utilities.debug(() -> "Overriding Message as " + type.name());
+        switch (type) {
             case JSON:
-                container.getStrings().write(0, gsonComponentSerializer.serialize(parsed));
+                container.getStrings().write(0, rendered.json(gsonComponentSerializer));
                 break;
             case WRAPPED_COMPONENT:
-                container.getChatComponents().write(0, WrappedChatComponent.fromJson(
-                        gsonComponentSerializer.serialize(parsed)
+                container.getChatComponents().write(0, (WrappedChatComponent) rendered.handle(
+                        () -> WrappedChatComponent.fromJson(rendered.json(gsonComponentSerializer))
                 ));
                 break;
             case BUNGEE_COMPONENT:
@@ -90,23 +202,99 @@ public final class PacketChatListener extends PacketListener {
                 break;
             case SERVER_ADVENTURE:
                 final StructureModifier<Object> modifier = container.getModifier().withType(AdventureComponentConverter.getComponentClass());
-                final String json = gsonComponentSerializer.serialize(parsed);
-                modifier.write(0, AdventureComponentConverter.fromJsonAsObject(json));
+                modifier.write(0, rendered.handle(
+                        () -> AdventureComponentConverter.fromJsonAsObject(rendered.json(gsonComponentSerializer))
+                ));
                 break;
         }
 
         Utilities.debug(() -> "###############################################");
     }
 
-    private PacketResponse processPacket(final PacketContainer container) {
+    /**
+     * Retrieves the render of an identical packet that was already processed in the given tick.
+     *
+     * @param type The type of the packet content.
+     * @param key The raw json of the packet content.
+     * @param tick The current tick.
+     * @return the shared render, or null if there is none.
+     */
+    private Rendered sharedRender(
+            final ResponseType type,
+            final String key,
+            final long tick
+    ) {
+        if (this.renderTick != tick) {
+            this.renderTick = tick;
+            for (final Map<String, Rendered> renders : this.renders) {
+                renders.clear();
+            }
+        }
+
+        final Rendered rendered = this.renders[type.ordinal()].get(key);
+        return rendered != null && rendered.tick == tick ? rendered : null;
+    }
+
+    /**
+     * Shares a player-independent render with the identical packets sent during the same tick.
+     */
+    private void share(
+            final PacketResponse response,
+            final Rendered rendered
+    ) {
+        if (response.key != null) {
+            this.renders[response.type.ordinal()].put(response.key, rendered);
+        }
+    }
+
+    /**
+     * Retrieves the amount of packets that reused a render shared in the same tick.
+     *
+     * @return the amount of shared renders.
+     */
+    public long getSharedRenders() {
+        return this.sharedRenders.sum();
+    }
+
+    /**
+     * Retrieves the time spent in this listener on the sending thread.
+     *
+     * @return the sync latency histogram.
+     */
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    /**
+     * Retrieves the async pipeline.
+     *
+     * @return the async pipeline, or null if packets are rewritten synchronously.
+     */
+    public AsyncPacketPipeline getPipeline() {
+        return this.pipeline;
+    }
+
+    private PacketResponse processPacket(
+            final PacketContainer container,
+            final long tick
+    ) {
         final WrappedChatComponent wrappedComponent = container.getChatComponents().readSafely(0);
         if (wrappedComponent != null) {
             Utilities.debug(() -> "Trying ProtocolLib's ChatComponent..");
             final String found = wrappedComponent.getJson();
             if (!found.isEmpty()) {
                 Utilities.debug(() -> "Found String: " + found);
+                if (!this.passesPrefilter(VisibleText.fromJson(found))) {
+                    return null;
+                }
+
+                final Rendered shared = this.sharedRender(ResponseType.WRAPPED_COMPONENT, found, tick);
+                if (shared != null) {
+                    return new PacketResponse(ResponseType.WRAPPED_COMPONENT, shared);
+                }
+
                 try {
-                    return new PacketResponse(ResponseType.WRAPPED_COMPONENT, AbstractComponent.parse(found).toMiniMessage());
+                    return this.respond(ResponseType.WRAPPED_COMPONENT, found);
                 } catch (final Exception e) {
                     Utilities.debug(() -> "An error happened while de/serializing " + found + ": ", e);
                 }
@@ -121,7 +309,15 @@ public final class PacketChatListener extends PacketListener {
                     final WrappedChatComponent wrappedAComponent = (WrappedChatComponent) fromComponent.invoke(null, modifier.readSafely(0));
                     final String json = wrappedAComponent.getJson();
                     Utilities.debug(() -> "Found JSON: " + json);
-                    return new PacketResponse(ResponseType.SERVER_ADVENTURE, AbstractComponent.parse(json).toMiniMessage());
+                    if (!this.passesPrefilter(VisibleText.fromJson(json))) {
+                        return null;
+                    }
+
+                    final Rendered shared = this.sharedRender(ResponseType.SERVER_ADVENTURE, json, tick);
+                    if (shared != null) {
+                        return new PacketResponse(ResponseType.SERVER_ADVENTURE, shared);
+                    }
+                    return this.respond(ResponseType.SERVER_ADVENTURE, json);
                 }
             } catch (Throwable ignored) {}
         }
@@ -129,18 +325,44 @@ public final class PacketChatListener extends PacketListener {
         final StructureModifier<TextComponent> textComponentModifier = container.getModifier().withType(TextComponent.class);
         if (textComponentModifier.size() == 1) {
             Utilities.debug(() -> "Trying Bungeecord TextComponent..");
-            return new PacketResponse(ResponseType.BUNGEE_COMPONENT, processBaseComponents(textComponentModifier.readSafely(0)));
+            final TextComponent textComponent = textComponentModifier.readSafely(0);
+            if (!this.passesPrefilter(VisibleText.fromComponents(textComponent))) {
+                return null;
+            }
+            return new PacketResponse(ResponseType.BUNGEE_COMPONENT, null, processBaseComponents(textComponent), null);
         }
 
         final String rawMessage = container.getStrings().readSafely(0);
         if (rawMessage != null) {
             Utilities.debug(() -> "Raw-Parsing message: " + rawMessage);
-            return new PacketResponse(ResponseType.JSON, AbstractComponent.parse(rawMessage).toMiniMessage());
+            if (!this.passesPrefilter(VisibleText.fromJson(rawMessage))) {
+                return null;
+            }
+
+            final Rendered shared = this.sharedRender(ResponseType.JSON, rawMessage, tick);
+            if (shared != null) {
+                return new PacketResponse(ResponseType.JSON, shared);
+            }
+            return this.respond(ResponseType.JSON, rawMessage);
         }
 
         return null;
     }
 
+    /**
+     * Prepares a json message for rewriting, either as a component tree or as MiniMessage.
+     */
+    private PacketResponse respond(
+            final ResponseType type,
+            final String json
+    ) {
+        if (plugin.isComponentRewriter()) {
+            final Component component = gsonComponentSerializer.deserialize(json);
+            return new PacketResponse(type, json, VisibleText.fromComponent(component), component);
+        }
+        return new PacketResponse(type, json, AbstractComponent.parse(json).toMiniMessage(), null);
+    }
+
     private String processBaseComponents(final BaseComponent... components) {
         return AbstractComponent.parse(bungee.deserialize(components)).toMiniMessage();
     }
@@ -148,14 +370,73 @@ public final class PacketChatListener extends PacketListener {
     private static final class PacketResponse {
 
         private final ResponseType type;
+        private final String key;
         private final String message;
+        private final Component component;
+        private final Rendered shared;
 
         private PacketResponse(
                 final ResponseType type,
-                final String message
+                final String key,
+                final String message,
+                final Component component
         ) {
             this.type = type;
+            this.key = key;
             this.message = message;
+            this.component = component;
+            this.shared = null;
+        }
+
+        private PacketResponse(
+                final ResponseType type,
+                final Rendered shared
+        ) {
+            this.type = type;
+            this.key = null;
+            this.message = null;
+            this.component = null;
+            this.shared = shared;
+        }
+
+    }
+
+    /**
+     * Represents the outcome of processing a message, shared between recipients during a single tick.
+     * <br>
+     * A null component means the message isn't meant to be touched.
+     */
+    private static final class Rendered {
+
+        private final long tick;
+        private final Component component;
+        private volatile String json;
+        private volatile Object handle;
+
+        private Rendered(
+                final long tick,
+                final Component component
+        ) {
+            this.tick = tick;
+            this.component = component;
+        }
+
+        private String json(final GsonComponentSerializer serializer) {
+            String json = this.json;
+            if (json == null) {
+                json = serializer.serialize(this.component);
+                this.json = json;
+            }
+            return json;
+        }
+
+        private Object handle(final Supplier<Object> supplier) {
+            Object handle = this.handle;
+            if (handle == null) {
+                handle = supplier.get();
+                this.handle = handle;
+            }
+            return handle;
         }
 
     }
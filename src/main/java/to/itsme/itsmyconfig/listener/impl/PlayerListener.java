@@ -0,0 +1,22 @@
+package to.itsme.itsmyconfig.listener.impl;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import to.itsme.itsmyconfig.ItsMyConfig;
+
+public final class PlayerListener implements Listener {
+
+    private final ItsMyConfig plugin;
+
+    public PlayerListener(final ItsMyConfig plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        this.plugin.getPlaceholderManager().invalidateCaches(event.getPlayer().getUniqueId());
+    }
+
+}
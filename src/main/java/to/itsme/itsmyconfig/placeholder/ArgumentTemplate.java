@@ -0,0 +1,138 @@
+package to.itsme.itsmyconfig.placeholder;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a placeholder message split into literal segments and argument slots ({@code {n}}).
+ * <br>
+ * Rendering appends the segments and arguments to a single builder, without any regex.
+ */
+public final class ArgumentTemplate {
+
+    private final String text;
+    private final String[] literals;
+    private final int[] slots;
+
+    private ArgumentTemplate(
+            final String text,
+            final String[] literals,
+            final int[] slots
+    ) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Splits a message into its literal segments and argument slots.
+     *
+     * @param text The message.
+     * @return the compiled template.
+     */
+    public static ArgumentTemplate compile(final @NotNull String text) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        int copied = 0;
+        int open = text.indexOf('{');
+        while (open != -1) {
+            int close = open + 1;
+            while (close < text.length() && text.charAt(close) >= '0' && text.charAt(close) <= '9') {
+                close++;
+            }
+
+            // "{07}" is never replaced, only the canonical "{7}" is
+            final boolean leadingZero = close - open > 2 && text.charAt(open + 1) == '0';
+            if (close == open + 1 || leadingZero || close >= text.length() || text.charAt(close) != '}') {
+                open = text.indexOf('{', open + 1);
+                continue;
+            }
+
+            final int slot;
+            try {
+                slot = Integer.parseInt(text.substring(open + 1, close));
+            } catch (final NumberFormatException ignored) {
+                open = text.indexOf('{', close);
+                continue;
+            }
+
+            literals.add(text.substring(copied, open));
+            slots.add(slot);
+            copied = close + 1;
+            open = text.indexOf('{', copied);
+        }
+
+        literals.add(text.substring(copied));
+
+        final int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new ArgumentTemplate(text, literals.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * Retrieves the message the template was compiled from.
+     *
+     * @return the raw message.
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Checks if the message contains any argument slot.
+     *
+     * @return true if rendering can change the message.
+     */
+    public boolean hasSlots() {
+        return this.slots.length != 0;
+    }
+
+    /**
+     * Renders the template with the given parameters.
+     * <br>
+     * Slots that aren't registered or have no matching parameter are kept as written.
+     *
+     * @param params The parameters to fill the slots with.
+     * @param skippedParams The amount of leading parameters that aren't arguments.
+     * @param registered The registered argument numbers, sorted.
+     * @return the rendered message.
+     */
+    public String render(
+            final String[] params,
+            final int skippedParams,
+            final int[] registered
+    ) {
+        if (this.slots.length == 0) {
+            return this.text;
+        }
+
+        int length = this.text.length();
+        for (final int slot : this.slots) {
+            // compared before adding, so {2147483647} can't overflow into a negative index
+            if (slot < params.length - skippedParams && Arrays.binarySearch(registered, slot) >= 0) {
+                length += params[slot + skippedParams].length();
+            }
+        }
+
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < this.slots.length; i++) {
+            builder.append(this.literals[i]);
+
+            final int slot = this.slots[i];
+            if (slot < params.length - skippedParams && Arrays.binarySearch(registered, slot) >= 0) {
+                builder.append(params[slot + skippedParams]);
+            } else {
+                builder.append('{').append(slot).append('}');
+            }
+        }
+
+        return builder.append(this.literals[this.slots.length]).toString();
+    }
+
+}
@@ -6,12 +6,15 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import to.itsme.itsmyconfig.ItsMyConfig;
 import to.itsme.itsmyconfig.placeholder.type.ColorPlaceholder;
+import to.itsme.itsmyconfig.requirement.CompiledRequirement;
 import to.itsme.itsmyconfig.requirement.RequirementData;
 import to.itsme.itsmyconfig.util.Strings;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The PlaceholderData class is an abstract class that represents the basic structure of a placeholder data object.
@@ -45,10 +48,26 @@ public abstract class Placeholder {
      * Represents a list of all argument numbers.
      */
     protected final List<Integer> arguments = new ArrayList<>();
+    /**
+     * Represents the registered argument numbers, sorted and without duplicates, for binary search lookups.
+     */
+    private volatile int[] registeredArguments = new int[0];
+    /**
+     * Represents the messages registered when loading the placeholder, split into segments and argument slots.
+     */
+    private final Map<String, ArgumentTemplate> templates = new ConcurrentHashMap<>();
     /**
      * Represents a list of requirement data.
      */
     private final List<RequirementData> requirements = new ArrayList<>();
+    /**
+     * Represents the evaluation plans of the requirements, in the same order.
+     */
+    private final List<CompiledRequirement> compiledRequirements = new ArrayList<>();
+    /**
+     * Represents the per-player result cache, null if the placeholder has no cache-ttl.
+     */
+    private final PlaceholderCache cache;
 
     /**
      * Represents a placeholder data object.
@@ -61,6 +80,9 @@ public abstract class Placeholder {
         this.type = type;
         this.section = section;
         this.filePath = filePath;
+
+        final long cacheTtl = section == null ? 0 : section.getLong("cache-ttl");
+        this.cache = cacheTtl > 0 ? new PlaceholderCache(cacheTtl) : null;
     }
 
     /**
@@ -71,14 +93,14 @@ public abstract class Placeholder {
     public void registerRequirement(final ConfigurationSection section) {
         final String identifier = section.getString("type");
         this.registerArgumentsFor(section, identifier);
-        this.requirements.add(
-                new RequirementData(
-                        identifier,
-                        section.getString("input"),
-                        section.getString("output"),
-                        section.getString("deny")
-                )
+        final RequirementData data = new RequirementData(
+                identifier,
+                section.getString("input"),
+                section.getString("output"),
+                section.getString("deny")
         );
+        this.requirements.add(data);
+        this.compiledRequirements.add(this.plugin.getRequirementManager().compile(data));
     }
 
     /**
@@ -103,13 +125,32 @@ public abstract class Placeholder {
      * @return The formatted string.
      */
     public String asString(final Player player, final String[] args) {
+        if (this.cache == null || player == null || !player.isOnline()) {
+            return this.evaluate(player, args);
+        }
+        return this.cache.get(player.getUniqueId(), args, () -> this.evaluate(player, args));
+    }
+
+    /**
+     * Evaluates the requirements and the result of the placeholder, without caching.
+     *
+     * @param player The Player object.
+     * @param args   The array of strings.
+     * @return The formatted string.
+     */
+    private String evaluate(final Player player, final String[] args) {
         final String deny = getColorTranslatedMessage(player, args);
         if (deny != null) {
             return deny;
         }
 
-        final String result = PlaceholderAPI.setPlaceholders(player, this.getResult(player, args));
-        return needColorTranslation() ? ChatColor.translateAlternateColorCodes('&', result) : result;
+        final String result = this.getResult(player, args);
+        if (!this.needsPostProcessing()) {
+            return result;
+        }
+
+        final String replaced = PlaceholderAPI.setPlaceholders(player, result);
+        return needColorTranslation() ? ChatColor.translateAlternateColorCodes('&', replaced) : replaced;
     }
 
     /**
@@ -125,6 +166,17 @@ public abstract class Placeholder {
         return deny != null ? ChatColor.translateAlternateColorCodes('&', deny) : null;
     }
 
+    /**
+     * Determines if the result still goes through PlaceholderAPI and color translation.
+     * <br>
+     * Placeholders whose results are final when returned override this to skip both passes.
+     *
+     * @return true if the result needs post-processing, false otherwise
+     */
+    protected boolean needsPostProcessing() {
+        return true;
+    }
+
     /**
      * Determines if a color translation is needed based on the type of placeholder data.
      *
@@ -165,19 +217,32 @@ public abstract class Placeholder {
             final String message,
             final int skippedParams
     ) {
-        if (this.arguments.isEmpty() || params.length == 0) {
+        if (message == null || this.arguments.isEmpty() || params.length == 0) {
             return message;
         }
 
-        String output = message;
-        for (final Integer argument : this.arguments) {
-            final int index = argument + skippedParams;
-            if (index >= params.length) continue;
-            // Dollar signs are quoted before using replaceAll
-            output = output.replaceAll(Pattern.quote("{" + argument + "}"), params[index].replace("$", "\\$"));
+        // messages built at runtime (e.g. serialized per player) are compiled once and never kept
+        final ArgumentTemplate template = this.templates.get(message);
+        return (template != null ? template : ArgumentTemplate.compile(message))
+                .render(params, skippedParams, this.registeredArguments);
+    }
+
+    /**
+     * Replaces arguments in an already compiled message.
+     *
+     * @param params     The array of parameters to use for replacement.
+     * @param template   The compiled message to replace arguments in.
+     * @return The message string with replaced arguments.
+     */
+    public String replaceArguments(
+            final String[] params,
+            final ArgumentTemplate template
+    ) {
+        if (this.arguments.isEmpty() || params.length == 0) {
+            return template.getText();
         }
 
-        return output;
+        return template.render(params, 0, this.registeredArguments);
     }
 
     /**
@@ -189,6 +254,15 @@ public abstract class Placeholder {
         return requirements;
     }
 
+    /**
+     * Retrieves the evaluation plans of the requirements, compiled when they were registered.
+     *
+     * @return a list of CompiledRequirement objects, in the same order as {@link #getRequirements()}
+     */
+    public List<CompiledRequirement> getCompiledRequirements() {
+        return this.compiledRequirements;
+    }
+
     /**
      * Registers arguments for the PlaceholderData object.
      * This method adds the arguments obtained from the given string to the existing list of arguments.
@@ -196,7 +270,35 @@ public abstract class Placeholder {
      * @param string The string containing the arguments to be registered.
      */
     protected void registerArguments(final String string) {
-        this.arguments.addAll(Strings.getArguments(string));
+        final List<Integer> arguments = Strings.getArguments(string);
+        this.arguments.addAll(arguments);
+        if (!arguments.isEmpty()) {
+            this.registeredArguments = this.arguments.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        }
+
+        if (string != null) {
+            this.templates.computeIfAbsent(string, ArgumentTemplate::compile);
+        }
+    }
+
+    /**
+     * Removes everything kept for a player, once the player left.
+     *
+     * @param player The unique id of the player.
+     */
+    public void invalidate(final UUID player) {
+        if (this.cache != null) {
+            this.cache.invalidate(player);
+        }
+    }
+
+    /**
+     * Retrieves the per-player result cache.
+     *
+     * @return the cache, or null if the placeholder has no cache-ttl.
+     */
+    public PlaceholderCache getCache() {
+        return this.cache;
     }
 
     /**
@@ -0,0 +1,117 @@
+package to.itsme.itsmyconfig.placeholder;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The PlaceholderCache class keeps the results of a placeholder per player for a limited time.
+ * Every player keeps at most {@link #MAXIMUM_ENTRIES} results, the least recently used one is evicted once full.
+ */
+public final class PlaceholderCache {
+
+    /**
+     * Represents the maximum amount of argument combinations cached per player.
+     */
+    private static final int MAXIMUM_ENTRIES = 32;
+
+    private final Map<UUID, Map<List<String>, Entry>> players = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+    private final long ttlNanos;
+
+    /**
+     * Creates a placeholder cache.
+     *
+     * @param ttlTicks The amount of ticks a result stays valid.
+     */
+    public PlaceholderCache(final long ttlTicks) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlTicks * 50);
+    }
+
+    /**
+     * Retrieves the cached result of a player, computing it if it's missing or expired.
+     *
+     * @param player The unique id of the player.
+     * @param args The placeholder arguments.
+     * @param supplier The computation of the result.
+     * @return the result.
+     */
+    public String get(
+            final UUID player,
+            final String[] args,
+            final Supplier<String> supplier
+    ) {
+        final Map<List<String>, Entry> entries = this.players.computeIfAbsent(player, uuid -> new LinkedHashMap<List<String>, Entry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<String>, Entry> eldest) {
+                return size() > MAXIMUM_ENTRIES;
+            }
+        });
+
+        final List<String> key = Arrays.asList(args);
+        final long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null && now - entry.expiry < 0) {
+            this.hits.increment();
+            return entry.value;
+        }
+
+        this.misses.increment();
+        final String value = supplier.get();
+        entry = new Entry(value, now + this.ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        return value;
+    }
+
+    /**
+     * Removes every cached result of a player.
+     *
+     * @param player The unique id of the player.
+     */
+    public void invalidate(final UUID player) {
+        this.players.remove(player);
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void clear() {
+        this.players.clear();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    private static final class Entry {
+
+        private final String value;
+        private final long expiry;
+
+        private Entry(
+                final String value,
+                final long expiry
+        ) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+package to.itsme.itsmyconfig.placeholder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Represents a parsed placeholder file, along with what is needed to tell whether it changed since.
+ * <br>
+ * The placeholders constructed from an unchanged file are kept, so an incremental reload reuses them as-is.
+ */
+public final class PlaceholderFile {
+
+    private final long size, lastModified;
+    private final byte[] hash;
+    private final boolean restored;
+    private final YamlConfiguration config;
+    private final Map<String, Placeholder> placeholders;
+
+    private PlaceholderFile(
+            final long size,
+            final long lastModified,
+            final byte[] hash,
+            final boolean restored,
+            final YamlConfiguration config,
+            final Map<String, Placeholder> placeholders
+    ) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.hash = hash;
+        this.restored = restored;
+        this.config = config;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Loads a placeholder file, reusing the previous load if the file didn't change.
+     * <br>
+     * The size and modification time are checked first, the content hash is only compared when they differ.
+     * A file restored from a snapshot always has its content hash compared,
+     * the snapshot may outlive an edit that kept both the size and the modification time (coarse timestamps, restored backups).
+     *
+     * @param file The .yml file to load.
+     * @param previous The previous load of the file, or null to always parse it.
+     * @return the loaded file.
+     */
+    public static PlaceholderFile load(
+            final File file,
+            final @Nullable PlaceholderFile previous
+    ) {
+        final long size = file.length();
+        final long lastModified = file.lastModified();
+        if (previous != null && !previous.restored && previous.size == size && previous.lastModified == lastModified) {
+            return previous;
+        }
+
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (final IOException e) {
+            Bukkit.getLogger().log(Level.SEVERE, "Cannot load " + file, e);
+            return new PlaceholderFile(size, lastModified, new byte[0], false, new YamlConfiguration(), new ConcurrentHashMap<>());
+        }
+
+        final byte[] hash = hash(content);
+        if (previous != null && Arrays.equals(previous.hash, hash)) {
+            // only touched, the placeholders are kept
+            return new PlaceholderFile(size, lastModified, hash, false, previous.config, previous.placeholders);
+        }
+
+        final YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(new String(content, StandardCharsets.UTF_8));
+        } catch (final InvalidConfigurationException e) {
+            Bukkit.getLogger().log(Level.SEVERE, "Cannot load " + file, e);
+            // no hash, so the file is parsed (and reported) again until it is fixed
+            return new PlaceholderFile(size, lastModified, new byte[0], false, config, new ConcurrentHashMap<>());
+        }
+        return new PlaceholderFile(size, lastModified, hash, false, config, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Restores a placeholder file from a snapshot, as if it was loaded with the given attributes.
+     * <br>
+     * The restored file is only reused by {@link #load(File, PlaceholderFile)} if the content hash still matches.
+     *
+     * @param size The size of the file when it was parsed.
+     * @param lastModified The modification time of the file when it was parsed.
+     * @param hash The content hash of the file when it was parsed.
+     * @param config The parsed configuration.
+     * @return the restored file.
+     */
+    public static PlaceholderFile restore(
+            final long size,
+            final long lastModified,
+            final byte[] hash,
+            final YamlConfiguration config
+    ) {
+        return new PlaceholderFile(size, lastModified, hash, true, config, new ConcurrentHashMap<>());
+    }
+
+    public long getSize() {
+        return this.size;
+    }
+
+    public long getLastModified() {
+        return this.lastModified;
+    }
+
+    /**
+     * Retrieves the SHA-256 hash of the file content.
+     *
+     * @return the content hash, empty if the file couldn't be read or parsed.
+     */
+    public byte[] getHash() {
+        return this.hash;
+    }
+
+    /**
+     * Retrieves the parsed configuration of the file.
+     *
+     * @return the parsed configuration.
+     */
+    public YamlConfiguration getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Retrieves a placeholder previously constructed from this file.
+     *
+     * @param identifier The identifier of the placeholder.
+     * @return the placeholder, or null if it wasn't constructed from this version of the file.
+     */
+    public @Nullable Placeholder getPlaceholder(final String identifier) {
+        return this.placeholders.get(identifier);
+    }
+
+    /**
+     * Keeps a placeholder constructed from this file, to be reused while the file doesn't change.
+     *
+     * @param identifier The identifier of the placeholder.
+     * @param placeholder The constructed placeholder.
+     */
+    public void putPlaceholder(
+            final String identifier,
+            final Placeholder placeholder
+    ) {
+        this.placeholders.put(identifier, placeholder);
+    }
+
+    private static byte[] hash(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
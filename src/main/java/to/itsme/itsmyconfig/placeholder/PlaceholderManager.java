@@ -4,18 +4,22 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * The PlaceholderManager class is responsible for managing placeholders.
  * It provides methods to register, unregister, and retrieve placeholders.
+ * <br>
+ * Placeholders are kept in an immutable snapshot that is replaced as a whole on every change,
+ * so lookups never lock and never see a partially loaded registry.
  */
 public final class PlaceholderManager {
 
     /**
-     * Represents a synchronized map of placeholder keys and PlaceholderData objects.
+     * Represents an immutable snapshot of placeholder keys and PlaceholderData objects.
      * Placeholders are used to represent dynamic values that can be replaced in messages or text.
      */
-    private final Map<String, Placeholder> placeholders = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile Map<String, Placeholder> placeholders = Collections.emptyMap();
 
     /**
      * Registers a placeholder with the provided key and value.
@@ -23,15 +27,36 @@ public final class PlaceholderManager {
      * @param key   The key of the placeholder.
      * @param value The PlaceholderData object representing the value of the placeholder.
      */
-    public void register(final String key, final Placeholder value) {
-        this.placeholders.put(key, value);
+    public synchronized void register(final String key, final Placeholder value) {
+        final Map<String, Placeholder> copy = new LinkedHashMap<>(this.placeholders);
+        copy.put(key, value);
+        this.placeholders = Collections.unmodifiableMap(copy);
     }
 
     /**
-     * Clears all registered placeholders.
+     * Replaces every registered placeholder at once.
+     * <br>
+     * The cached results of the placeholders that were replaced or removed are cleared,
+     * placeholders registered again as the same instance keep theirs.
+     *
+     * @param placeholders The placeholders to register, in registration order.
      */
-    public void unregisterAll() {
-        this.placeholders.clear();
+    public synchronized void replaceAll(final Map<String, Placeholder> placeholders) {
+        final Map<String, Placeholder> previous = this.placeholders;
+        this.placeholders = Collections.unmodifiableMap(new LinkedHashMap<>(placeholders));
+
+        final Map<String, Placeholder> replaced = new LinkedHashMap<>(previous);
+        replaced.entrySet().removeIf(entry -> placeholders.get(entry.getKey()) == entry.getValue());
+        clearCaches(replaced);
+    }
+
+    /**
+     * Clears all registered placeholders, along with their cached results.
+     */
+    public synchronized void unregisterAll() {
+        final Map<String, Placeholder> previous = this.placeholders;
+        this.placeholders = Collections.emptyMap();
+        clearCaches(previous);
     }
 
     /**
@@ -39,8 +64,25 @@ public final class PlaceholderManager {
      *
      * @param key The key of the placeholder to unregister.
      */
-    public void unregister(final String key) {
-        this.placeholders.remove(key);
+    public synchronized void unregister(final String key) {
+        if (!this.placeholders.containsKey(key)) {
+            return;
+        }
+
+        final Map<String, Placeholder> copy = new LinkedHashMap<>(this.placeholders);
+        copy.remove(key);
+        this.placeholders = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Removes the cached results and any other per-player state of a player from every placeholder.
+     *
+     * @param player The unique id of the player.
+     */
+    public void invalidateCaches(final UUID player) {
+        for (final Placeholder placeholder : this.placeholders.values()) {
+            placeholder.invalidate(player);
+        }
     }
 
     /**
@@ -66,18 +108,27 @@ public final class PlaceholderManager {
     /**
      * Returns a {@link Map} of placeholders.
      *
-     * @return a map containing placeholders as keys and their corresponding {@link Placeholder} objects as values
+     * @return an immutable snapshot containing placeholders as keys and their corresponding {@link Placeholder} objects as values
      */
     public Map<String, Placeholder> getPlaceholdersMap() {
-        return placeholders;
+        return this.placeholders;
     }
 
     /**
      * Retrieves the keys of all registered placeholders.
      *
-     * @return a set containing the keys of all registered placeholders.
+     * @return an immutable set containing the keys of all registered placeholders.
      */
     public Set<String> getPlaceholderKeys() {
-        return placeholders.keySet();
+        return this.placeholders.keySet();
+    }
+
+    private static void clearCaches(final Map<String, Placeholder> placeholders) {
+        for (final Placeholder placeholder : placeholders.values()) {
+            final PlaceholderCache cache = placeholder.getCache();
+            if (cache != null) {
+                cache.clear();
+            }
+        }
     }
 }
@@ -0,0 +1,314 @@
+package to.itsme.itsmyconfig.placeholder;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import to.itsme.itsmyconfig.ItsMyConfig;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Stores the parsed placeholder files in a compact binary file, so they don't go through the YAML parser on startup.
+ * <br>
+ * Every file is stored along with its size, modification time and content hash,
+ * a file is only restored from the snapshot while its content hash still matches.
+ * Files holding values the format doesn't support are left out and parsed as usual.
+ */
+public final class PlaceholderSnapshot {
+
+    private static final int MAGIC = 0x494D4353; // "IMCS"
+    private static final int VERSION = 1;
+
+    private static final byte SECTION = 0, LIST = 1, MAP = 2, STRING = 3, INTEGER = 4, LONG = 5, DOUBLE = 6, BOOLEAN = 7, NULL = 8;
+
+    /**
+     * Reads a snapshot.
+     * <br>
+     * The file is read into memory at once rather than memory-mapped,
+     * a mapping would keep the file locked on Windows and the next snapshot couldn't replace it.
+     * Every stored length is checked against the remaining bytes before allocating, a damaged snapshot is deleted.
+     *
+     * @param file The snapshot file.
+     * @return the stored placeholder files by path, empty if the snapshot is missing or unreadable.
+     */
+    public static Map<String, PlaceholderFile> read(final File file) {
+        if (!file.isFile()) {
+            return Collections.emptyMap();
+        }
+
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // read the whole snapshot
+            }
+            buffer.flip();
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Collections.emptyMap();
+            }
+
+            final int count = readLength(buffer);
+            final Map<String, PlaceholderFile> files = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                final String path = readString(buffer);
+                final long size = buffer.getLong();
+                final long lastModified = buffer.getLong();
+                final byte[] hash = new byte[readLength(buffer)];
+                buffer.get(hash);
+
+                final YamlConfiguration config = new YamlConfiguration();
+                readSection(buffer, config);
+                files.put(path, PlaceholderFile.restore(size, lastModified, hash, config));
+            }
+            return files;
+        } catch (final IOException | RuntimeException e) {
+            ItsMyConfig.getInstance().getLogger().log(Level.WARNING, "Could not read the placeholder snapshot, placeholder files will be parsed", e);
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (final IOException ignored) {
+                // replaced by the next snapshot anyway
+            }
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Writes a snapshot, replacing the previous one at once.
+     *
+     * @param file The snapshot file.
+     * @param files The parsed placeholder files by path.
+     */
+    public static void write(
+            final File file,
+            final Map<String, PlaceholderFile> files
+    ) {
+        final List<byte[]> entries = new ArrayList<>(files.size());
+        for (final Map.Entry<String, PlaceholderFile> entry : files.entrySet()) {
+            final byte[] encoded = encode(entry.getKey(), entry.getValue());
+            if (encoded != null) {
+                entries.add(encoded);
+            }
+        }
+
+        final Path target = file.toPath();
+        final Path temporary = target.resolveSibling(file.getName() + ".tmp");
+        try {
+            try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(entries.size());
+                for (final byte[] entry : entries) {
+                    output.write(entry);
+                }
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException ignored) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            ItsMyConfig.getInstance().getLogger().log(Level.WARNING, "Could not write the placeholder snapshot", e);
+        }
+    }
+
+    /**
+     * Encodes a single file.
+     *
+     * @return the encoded entry, or null if the file can't be stored.
+     */
+    private static byte[] encode(
+            final String path,
+            final PlaceholderFile file
+    ) {
+        if (file.getHash().length == 0) {
+            return null;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            writeString(output, path);
+            output.writeLong(file.getSize());
+            output.writeLong(file.getLastModified());
+            output.writeInt(file.getHash().length);
+            output.write(file.getHash());
+            writeSection(output, file.getConfig());
+        } catch (final UnsupportedValueException ignored) {
+            return null;
+        } catch (final IOException e) {
+            // not thrown by an in-memory stream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSection(
+            final DataOutputStream output,
+            final ConfigurationSection section
+    ) throws IOException {
+        final Map<String, Object> values = section.getValues(false);
+        output.writeInt(values.size());
+        for (final Map.Entry<String, Object> entry : values.entrySet()) {
+            writeString(output, entry.getKey());
+            writeValue(output, entry.getValue());
+        }
+    }
+
+    private static void writeValue(
+            final DataOutputStream output,
+            final Object value
+    ) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof ConfigurationSection) {
+            output.writeByte(SECTION);
+            writeSection(output, (ConfigurationSection) value);
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+            for (final Object element : list) {
+                writeValue(output, element);
+            }
+        } else if (value instanceof Map) {
+            // maps nested in lists are kept as maps by the YAML loader
+            final Map<?, ?> map = (Map<?, ?>) value;
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new UnsupportedValueException();
+                }
+                writeString(output, (String) entry.getKey());
+                writeValue(output, entry.getValue());
+            }
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else {
+            throw new UnsupportedValueException();
+        }
+    }
+
+    private static void readSection(
+            final ByteBuffer buffer,
+            final ConfigurationSection section
+    ) {
+        final int count = readLength(buffer);
+        for (int i = 0; i < count; i++) {
+            final String key = readString(buffer);
+            if (buffer.hasRemaining() && buffer.get(buffer.position()) == SECTION) {
+                buffer.get();
+                readSection(buffer, section.createSection(key));
+            } else {
+                section.set(key, readValue(buffer));
+            }
+        }
+    }
+
+    private static Object readValue(final ByteBuffer buffer) {
+        final byte type = buffer.get();
+        switch (type) {
+            case LIST: {
+                final int size = readLength(buffer);
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            }
+            case MAP: {
+                final int size = readLength(buffer);
+                final Map<String, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    final String key = readString(buffer);
+                    map.put(key, readValue(buffer));
+                }
+                return map;
+            }
+            case STRING:
+                return readString(buffer);
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case NULL:
+                return null;
+            default:
+                throw new IllegalArgumentException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeString(
+            final DataOutputStream output,
+            final String value
+    ) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length or an element count, every element taking at least one byte.
+     *
+     * @return the length, never more than the remaining bytes.
+     */
+    private static int readLength(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length + ", " + buffer.remaining() + " bytes remaining");
+        }
+        return length;
+    }
+
+    /**
+     * Thrown when a file holds a value the snapshot format can't store.
+     */
+    private static final class UnsupportedValueException extends IOException {
+
+        private UnsupportedValueException() {
+            super("Unsupported value");
+        }
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package to.itsme.itsmyconfig.placeholder;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches the placeholders folder and its sub-folders, running a reload once .yml files stop changing.
+ * <br>
+ * Editors usually write a file in several steps, so events are gathered until none came for {@link #QUIET_MILLIS}.
+ */
+public final class PlaceholderWatcher implements Runnable {
+
+    /**
+     * Represents the time without any event after which the changes are applied.
+     */
+    private static final long QUIET_MILLIS = 100;
+
+    private final Path folder;
+    private final Runnable reload;
+    private WatchService service;
+    private Thread thread;
+
+    /**
+     * Creates a watcher for a placeholders folder.
+     *
+     * @param folder The folder to watch.
+     * @param reload The reload to run once files changed.
+     */
+    public PlaceholderWatcher(
+            final Path folder,
+            final Runnable reload
+    ) {
+        this.folder = folder;
+        this.reload = reload;
+    }
+
+    /**
+     * Starts watching the folder on a daemon thread.
+     *
+     * @throws IOException if the folder can't be watched.
+     */
+    public void start() throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        try {
+            this.register(this.folder);
+        } catch (final IOException | RuntimeException e) {
+            // the thread never started, nothing else will close it
+            this.closeService();
+            throw e;
+        }
+
+        this.thread = new Thread(this, "ItsMyConfig Placeholder Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching the folder.
+     */
+    public void stop() {
+        if (this.thread != null) {
+            this.thread.interrupt();
+            this.thread = null;
+        }
+
+        this.closeService();
+    }
+
+    private void closeService() {
+        if (this.service == null) {
+            return;
+        }
+
+        try {
+            this.service.close();
+        } catch (final IOException ignored) {
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = this.handle(this.service.take());
+
+                WatchKey key;
+                while ((key = this.service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= this.handle(key);
+                }
+
+                if (changed) {
+                    this.reload.run();
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            // stopped
+        }
+    }
+
+    private boolean handle(final WatchKey key) {
+        boolean changed = false;
+        final Path directory = (Path) key.watchable();
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            final WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+                continue;
+            }
+
+            final Path path = directory.resolve((Path) event.context());
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                this.registerQuietly(path);
+                changed = true;
+            } else if (kind == StandardWatchEventKinds.ENTRY_DELETE || path.getFileName().toString().endsWith(".yml")) {
+                // a deleted path can't be told apart from a folder anymore
+                changed = true;
+            }
+        }
+
+        key.reset();
+        return changed;
+    }
+
+    private void register(final Path root) throws IOException {
+        try (final Stream<Path> paths = Files.walk(root)) {
+            for (final Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                path.register(
+                        this.service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            }
+        }
+    }
+
+    private void registerQuietly(final Path root) {
+        try {
+            this.register(root);
+        } catch (final IOException ignored) {
+            // the folder was removed again, the reload won't find it either
+        }
+    }
+
+}
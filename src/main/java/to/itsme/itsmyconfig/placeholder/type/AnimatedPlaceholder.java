@@ -2,21 +2,39 @@ package to.itsme.itsmyconfig.placeholder.type;
 
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import to.itsme.itsmyconfig.placeholder.ArgumentTemplate;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
 import to.itsme.itsmyconfig.placeholder.PlaceholderType;
-import to.itsme.itsmyconfig.util.Scheduler;
+import to.itsme.itsmyconfig.util.Ticks;
+import to.itsme.itsmyconfig.util.UUIDLongMap;
 
-import java.util.*;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Represents an animated placeholder data object that rotates between different messages at a specified interval.
  * Extends the PlaceholderData class.
+ * <br>
+ * The current message is derived from the shared tick counter, so no task is scheduled per placeholder
+ * and reading it never locks.
+ * <br>
+ * The phase option shifts the animation per player:
+ * <ul>
+ *     <li>global - every player sees the same message (default)</li>
+ *     <li>per-player - every player is shifted by a fixed amount derived from their unique id</li>
+ *     <li>on-first-view - the animation starts from the first message the first time a player sees it</li>
+ * </ul>
  */
 public final class AnimatedPlaceholder extends Placeholder {
 
-    private final BlockingQueue<String> queue;
+    private final ArgumentTemplate[] frames;
+    private final long interval;
+    private final Phase phase;
+
+    /**
+     * Represents the tick each player first saw the animation at, for the on-first-view phase.
+     */
+    private final UUIDLongMap firstViews;
 
     /**
      * Represents an animated placeholder data object that rotates between different messages at a specified interval.
@@ -28,46 +46,84 @@ public final class AnimatedPlaceholder extends Placeholder {
     ) {
         super(section, filePath, PlaceholderType.ANIMATION);
         final List<String> messages = section.getStringList("values");
-        this.queue = new ArrayBlockingQueue<>(messages.size());
-
-        if (messages.isEmpty()) return;
-
-        for (final String message : messages) {
-            this.queue.add(message);
+        this.frames = new ArgumentTemplate[messages.size()];
+        for (int i = 0; i < this.frames.length; i++) {
+            final String message = messages.get(i);
+            this.frames[i] = ArgumentTemplate.compile(message);
             this.registerArguments(message);
         }
 
-        if (messages.size() > 1) {
-            Scheduler.runTimerAsync(this::rotateMessage, 0, section.getInt("interval"));
-        }
+        // the scheduler ran timers with a period below one tick every tick
+        this.interval = Math.max(1, section.getInt("interval"));
+        this.phase = Phase.find(section.getString("phase"));
+        this.firstViews = this.phase == Phase.ON_FIRST_VIEW ? new UUIDLongMap() : null;
     }
 
     /**
-     * Rotates the current message in the queue by moving the first message to the back of the queue.
-     * If the queue is empty, no action is taken.
+     * Retrieves the result of the placeholder evaluation as a string.
+     *
+     * @param args The arguments used for the placeholder evaluation.
+     * @return The result of the placeholder evaluation as a string.
      */
-    private void rotateMessage() {
-        final String entry = queue.poll();
+    @Override
+    public String getResult(final Player player, final String[] args) {
+        if (this.frames.length == 0) {
+            return "";
+        }
 
-        if (entry != null) {
-            queue.add(entry);
+        final int frame = (int) ((this.ticks(player) / this.interval) % this.frames.length);
+        return this.replaceArguments(args, this.frames[frame]);
+    }
+
+    @Override
+    public void invalidate(final UUID player) {
+        super.invalidate(player);
+        if (this.firstViews != null) {
+            this.firstViews.remove(player);
         }
     }
 
     /**
-     * Retrieves the result of the placeholder evaluation as a string.
+     * Retrieves the ticks the animation has been running for, as seen by a player.
      *
-     * @param args The arguments used for the placeholder evaluation.
-     * @return The result of the placeholder evaluation as a string.
+     * @param player The player, or null for the global phase.
+     * @return the elapsed ticks, never negative.
      */
-    @Override
-    public String getResult(final Player player, final String[] args) {
-        final String entry = queue.peek();
+    private long ticks(final Player player) {
+        final long current = Ticks.current();
+        if (player == null) {
+            return current;
+        }
 
-        if (entry == null) {
-            return "";
+        switch (this.phase) {
+            case PER_PLAYER:
+                final UUID uuid = player.getUniqueId();
+                final long offset = (uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits()) & Long.MAX_VALUE;
+                return current + offset % (this.interval * this.frames.length);
+            case ON_FIRST_VIEW:
+                return current - this.firstViews.putIfAbsent(player.getUniqueId(), current);
+            default:
+                return current;
         }
+    }
 
-        return this.replaceArguments(args, entry);
+    /**
+     * Represents how the animation is shifted per player.
+     */
+    private enum Phase {
+        GLOBAL,
+        PER_PLAYER,
+        ON_FIRST_VIEW;
+
+        private static Phase find(final String name) {
+            if (name != null) {
+                for (final Phase phase : values()) {
+                    if (phase.name().replace('_', '-').equalsIgnoreCase(name.trim())) {
+                        return phase;
+                    }
+                }
+            }
+            return GLOBAL;
+        }
     }
 }
@@ -8,16 +8,30 @@ import redempt.crunch.Crunch;
 import to.itsme.itsmyconfig.ItsMyConfig;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
 import to.itsme.itsmyconfig.placeholder.PlaceholderType;
+import to.itsme.itsmyconfig.util.NumberFormatter;
 
-import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.TreeMap;
 
+/**
+ * Represents a placeholder evaluating a math expression with its arguments as variables.
+ * <br>
+ * Expressions without variables are evaluated and formatted once when loading,
+ * the results of the other expressions are kept for the most recently used arguments and output formats.
+ * Expressions using random numbers are always evaluated.
+ */
 public final class MathPlaceholder extends Placeholder {
 
+    /**
+     * Represents the maximum amount of argument combinations kept per placeholder.
+     */
+    private static final int MAXIMUM_RESULTS = 64;
+
     private static final NavigableMap<Long, String> GLOBAL_SUFFIXES = new TreeMap<>();
 
     static {
@@ -33,8 +47,16 @@ public final class MathPlaceholder extends Placeholder {
 
     private final int precision;
     private final RoundingMode mode;
-    private final DecimalFormat fixedFormat = new DecimalFormat("#");
-    private final DecimalFormat commasFormat = new DecimalFormat("#,###");
+
+    /**
+     * Represents the formatted result of an expression without variables, null if it has variables or is random.
+     */
+    private final String constant;
+
+    /**
+     * Represents the recently formatted results by arguments and output format, null if the expression is random.
+     */
+    private final Map<Result, String> results;
 
     public MathPlaceholder(
             final String filePath,
@@ -53,6 +75,18 @@ public final class MathPlaceholder extends Placeholder {
         }
 
         this.expression = Crunch.compileExpression(copy);
+
+        // rand is the only Crunch operator whose result changes between evaluations
+        final boolean deterministic = !copy.contains("rand");
+        final double folded = deterministic && this.expression.getVariableCount() == 0 ? this.expression.evaluate() : Double.NaN;
+        // infinite and NaN results can't be formatted, they keep failing when requested
+        this.constant = Double.isFinite(folded) ? NumberFormatter.plain(folded, this.precision, this.mode) : null;
+        this.results = deterministic ? new LinkedHashMap<Result, String>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Result, String> eldest) {
+                return size() > MAXIMUM_RESULTS;
+            }
+        } : null;
     }
 
     @Override
@@ -61,9 +95,13 @@ public final class MathPlaceholder extends Placeholder {
             final String[] args
     ) {
         final int provided = args.length;
+        if (provided == 0 && this.constant != null) {
+            return this.constant;
+        }
+
         final int required = expression.getVariableCount();
         if (provided < required) {
-            return String.format("Invalid variable count, provided: %d, required: %d", provided, required);
+            return "Invalid variable count, provided: " + provided + ", required: " + required;
         }
 
         final double[] vals = this.convertArray(args, required);
@@ -71,16 +109,44 @@ public final class MathPlaceholder extends Placeholder {
             return "One of the arguments is an invalid number";
         }
 
-        final double result = expression.evaluate(vals);
+        final String type = provided > required ? args[required + 1] : null;
+        if (this.results == null) {
+            return this.format(expression.evaluate(vals), type);
+        }
+
+        final Result key = new Result(vals, type);
+        String result;
+        synchronized (this.results) {
+            result = this.results.get(key);
+        }
 
-        if (provided > required) {
-            final String type = args[required + 1];
+        if (result == null) {
+            result = this.format(expression.evaluate(vals), type);
+            synchronized (this.results) {
+                this.results.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Formats the result of the expression.
+     *
+     * @param result The result of the expression.
+     * @param type The output format, or null for the configured precision.
+     * @return the formatted result.
+     */
+    private String format(
+            final double result,
+            final String type
+    ) {
+        if (type != null) {
             if ("commas".equals(type)) {
-                return commasFormat.format(result);
+                return NumberFormatter.commas(result);
             } else if ("fixed".equals(type)) {
-                return fixedFormat.format(result);
+                return NumberFormatter.fixed(result);
             } else if ("formatted".equals(type)) {
-                return formatNumber((long) result);
+                return NumberFormatter.suffixed((long) result, GLOBAL_SUFFIXES);
             } else if (type.endsWith("dp")) {
                 try {
                     final double nearest = Double.parseDouble(type.substring(0, type.length() - 2));
@@ -89,7 +155,7 @@ public final class MathPlaceholder extends Placeholder {
             }
         }
 
-        return new BigDecimal(result).setScale(this.precision, this.mode).stripTrailingZeros().toPlainString();
+        return NumberFormatter.plain(result, this.precision, this.mode);
     }
 
     public double[] convertArray(final String[] args, final int limit) {
@@ -104,26 +170,39 @@ public final class MathPlaceholder extends Placeholder {
         return doubleArgs;
     }
 
-    @SuppressWarnings("all")
-    private String formatNumber(long balance) {
-        if (balance == Long.MIN_VALUE) {
-            return formatNumber(Long.MIN_VALUE + 1);
-        }
-        if (balance < 0) {
-            return "-" + formatNumber(-balance);
+    /**
+     * Represents the arguments and output format a result was formatted for.
+     */
+    private static final class Result {
+
+        private final double[] values;
+        private final String type;
+        private final int hash;
+
+        private Result(
+                final double[] values,
+                final String type
+        ) {
+            this.values = values;
+            this.type = type;
+            this.hash = 31 * Arrays.hashCode(values) + Objects.hashCode(type);
         }
 
-        if (balance < 1000) {
-            return Long.toString(balance);
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Result)) {
+                return false;
+            }
+
+            final Result other = (Result) object;
+            return this.hash == other.hash && Arrays.equals(this.values, other.values) && Objects.equals(this.type, other.type);
         }
 
-        final Map.Entry<Long, String> e = GLOBAL_SUFFIXES.floorEntry(balance);
-        final Long divideBy = e.getKey();
-        final String suffix = e.getValue();
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
 
-        final long truncated = balance / (divideBy / 10);
-        boolean hasDecimal = truncated < 100 && (truncated / 10d) != (truncated / 10);
-        return hasDecimal ? (truncated / 10d) + suffix : (truncated / 10) + suffix;
     }
 
 }
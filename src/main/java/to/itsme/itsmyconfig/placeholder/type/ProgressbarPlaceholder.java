@@ -5,9 +5,12 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
 import to.itsme.itsmyconfig.placeholder.PlaceholderType;
+import to.itsme.itsmyconfig.util.Strings;
 
 /**
  * ProgressBar class represents a progress bar with customizable colors and pattern.
+ * <br>
+ * A pattern of length N only has N + 1 possible bars, they are all built and color translated once when loaded.
  */
 public final class ProgressbarPlaceholder extends Placeholder {
     /**
@@ -42,6 +45,16 @@ public final class ProgressbarPlaceholder extends Placeholder {
      */
     remainingColor;
 
+    /**
+     * Represents every possible bar, indexed by the amount of completed elements.
+     */
+    private final String[] frames;
+
+    /**
+     * Represents whether the frames contain a {@code %}, which PlaceholderAPI may still replace.
+     */
+    private final boolean hasPlaceholders;
+
     /**
      * Represents a progress bar with customizable colors and pattern.
      */
@@ -54,6 +67,15 @@ public final class ProgressbarPlaceholder extends Placeholder {
         this.completedColor =  section.getString("completed-color");
         this.progressColor = section.getString("progress-color");
         this.remainingColor = section.getString("remaining-color");
+
+        final int length = this.pattern == null ? -1 : this.pattern.length();
+        this.frames = new String[length + 1];
+        boolean hasPlaceholders = false;
+        for (int completed = 0; completed <= length; completed++) {
+            this.frames[completed] = ChatColor.translateAlternateColorCodes('&', this.buildProgressBar(completed));
+            hasPlaceholders |= this.frames[completed].indexOf('%') != -1;
+        }
+        this.hasPlaceholders = hasPlaceholders;
     }
 
     /**
@@ -61,20 +83,20 @@ public final class ProgressbarPlaceholder extends Placeholder {
      *
      * @param value The current value of the progress bar.
      * @param max The maximum value of the progress bar.
-     * @return The rendered progress bar as a string.
+     * @return The rendered and color translated progress bar, the same instance for the same amount of completed elements.
      */
     public String render(
             final double value,
             final double max
     ) {
-        return buildProgressBar(calculateCompleted(value, max));
+        return this.frames[calculateCompleted(value, max)];
     }
 
     /**
      * Calculates the number of completed elements based on a given value and maximum value.
      * The completed elements are calculated by dividing the value by the maximum value,
      * multiplying the result by the length of the pattern, and rounding it to the nearest integer.
-     * The calculated value is then limited to the maximum length of the pattern.
+     * The calculated value is then limited to the length of the pattern, and to 0 for negative values.
      *
      * @param value the current value
      * @param max   the maximum value
@@ -82,8 +104,8 @@ public final class ProgressbarPlaceholder extends Placeholder {
      */
     private int calculateCompleted(final double value, final double max) {
         final double percent = value / max;
-        int completed = (int) Math.round(percent * pattern.length());
-        return Math.min(completed, pattern.length());
+        final long completed = Math.round(percent * pattern.length());
+        return (int) Math.max(0, Math.min(completed, pattern.length()));
     }
 
     /**
@@ -116,12 +138,36 @@ public final class ProgressbarPlaceholder extends Placeholder {
             return "Invalid args amount";
         }
 
-        try {
-            final double value = Double.parseDouble(args[0]);
-            final double maxValue = Double.parseDouble(args[1]);
-            return ChatColor.translateAlternateColorCodes('&', this.render(value, maxValue));
-        } catch (final NumberFormatException ignored) {}
-        return "";
+        final double value = Strings.doubleOrDefault(args[0], Double.NaN);
+        final double maxValue = Strings.doubleOrDefault(args[1], Double.NaN);
+        if (this.pattern == null || isInvalid(value, args[0]) || isInvalid(maxValue, args[1])) {
+            return "";
+        }
+
+        return this.render(value, maxValue);
+    }
+
+    /**
+     * The frames are color translated when loaded, so they only go through PlaceholderAPI if a color or the pattern holds a placeholder.
+     */
+    @Override
+    protected boolean needsPostProcessing() {
+        return this.hasPlaceholders;
+    }
+
+    /**
+     * Checks if an argument couldn't be parsed, a literal "NaN" is a valid number.
+     */
+    private static boolean isInvalid(
+            final double parsed,
+            final String argument
+    ) {
+        if (!Double.isNaN(parsed)) {
+            return false;
+        }
+
+        final String trimmed = argument.trim();
+        return !trimmed.equals("NaN") && !trimmed.equals("+NaN") && !trimmed.equals("-NaN");
     }
 
 }
@@ -0,0 +1,78 @@
+package to.itsme.itsmyconfig.requirement;
+
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.entity.Player;
+import to.itsme.itsmyconfig.placeholder.ArgumentTemplate;
+import to.itsme.itsmyconfig.placeholder.Placeholder;
+
+/**
+ * Represents the evaluation plan of a requirement, prepared once when its placeholder is loaded.
+ * <br>
+ * The requirement type, its syntax rules and the input/output templates are all resolved ahead,
+ * so evaluating it doesn't parse any string.
+ */
+public final class CompiledRequirement {
+
+    private final RequirementData data;
+    private final ArgumentTemplate input, output;
+    private final RequirementChecker<String> checker;
+
+    CompiledRequirement(
+            final RequirementData data,
+            final Requirement<?> requirement
+    ) {
+        this.data = data;
+        this.input = ArgumentTemplate.compile(data.getInput() == null ? "" : data.getInput());
+        this.output = ArgumentTemplate.compile(data.getOutput() == null ? "" : data.getOutput());
+        this.checker = requirement == null ? null : requirement.compile(data.getIdentifier(), this.getConstantOutput());
+    }
+
+    /**
+     * Retrieves the output if it contains neither arguments nor placeholders.
+     *
+     * @return the constant output, or null if it has to be resolved on every evaluation.
+     */
+    public String getConstantOutput() {
+        final String text = this.output.getText();
+        return this.output.hasSlots() || text.indexOf('%') != -1 ? null : text;
+    }
+
+    /**
+     * Evaluates the requirement.
+     *
+     * @param placeholder The placeholder the requirement belongs to.
+     * @param player The player the placeholder is requested for.
+     * @param params The placeholder parameters.
+     * @return The deny message if the requirement is not met, or null if the requirement is met.
+     */
+    public String evaluate(
+            final Placeholder placeholder,
+            final Player player,
+            final String[] params
+    ) {
+        if (this.checker == null) {
+            return null;
+        }
+
+        final String input = setPlaceholders(player, placeholder.replaceArguments(params, this.input));
+        final String output = setPlaceholders(player, placeholder.replaceArguments(params, this.output));
+        return this.checker.check(input, output) ? null : this.data.getDeny();
+    }
+
+    /**
+     * Retrieves the requirement data this plan was compiled from.
+     *
+     * @return the requirement data.
+     */
+    public RequirementData getData() {
+        return this.data;
+    }
+
+    private static String setPlaceholders(
+            final Player player,
+            final String text
+    ) {
+        return text.indexOf('%') == -1 ? text : PlaceholderAPI.setPlaceholders(player, text);
+    }
+
+}
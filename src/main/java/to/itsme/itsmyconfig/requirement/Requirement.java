@@ -90,6 +90,20 @@ public abstract class Requirement<V> {
      */
     public abstract boolean validate(final String identifier, final String input, final String output);
 
+    /**
+     * Compiles a requirement identifier into a checker, so evaluating it doesn't parse the identifier anymore.
+     *
+     * @param identifier the unique identifier of the requirement
+     * @param constantOutput the output if it never changes between evaluations, null otherwise
+     * @return a checker validating the input and output like {@link #validate(String, String, String)} does
+     */
+    public RequirementChecker<String> compile(
+            final String identifier,
+            final String constantOutput
+    ) {
+        return (input, output) -> this.validate(identifier, input, output);
+    }
+
     /**
      * Returns an array of identifiers.
      *
@@ -124,7 +138,22 @@ public abstract class Requirement<V> {
             final V input,
             final V output
     ) {
-        final RequirementChecker<V>[] checkers = this.syntaxRules.get(syntax);
+        return check(this.syntaxRules.get(syntax), input, output);
+    }
+
+    /**
+     * Checks if the given input and output satisfy any of the resolved checkers of a syntax.
+     *
+     * @param checkers the checkers of the syntax, or null if the syntax has no rules
+     * @param input  the input value to check against the requirement
+     * @param output the output value to check against the requirement
+     * @return true if the input and output satisfy the requirement, false otherwise
+     */
+    protected static <V> boolean check(
+            final RequirementChecker<V>[] checkers,
+            final V input,
+            final V output
+    ) {
         if (checkers == null) {
             return true;
         }
@@ -1,6 +1,5 @@
 package to.itsme.itsmyconfig.requirement;
 
-import me.clip.placeholderapi.PlaceholderAPI;
 import org.bukkit.entity.Player;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
 import to.itsme.itsmyconfig.requirement.type.NumberRequirement;
@@ -38,6 +37,18 @@ public final class RequirementManager {
         return null;
     }
 
+    /**
+     * Compiles a requirement into its evaluation plan.
+     *
+     * @param data The RequirementData object representing the requirement to be compiled.
+     * @return The compiled requirement, which always passes if no requirement type matches.
+     */
+    public CompiledRequirement compile(final RequirementData data) {
+        final String identifier = data.getIdentifier();
+        final Requirement<?> requirement = identifier == null ? null : this.getRequirementByType(identifier);
+        return new CompiledRequirement(data, requirement);
+    }
+
     /**
      * Retrieves the deny message for a placeholder data object.
      *
@@ -51,8 +62,8 @@ public final class RequirementManager {
             final Player player,
             final String[] params
     ) {
-        for (final RequirementData requirement : placeholder.getRequirements()) {
-            final String deny = processRequirementData(requirement, placeholder, player, params);
+        for (final CompiledRequirement requirement : placeholder.getCompiledRequirements()) {
+            final String deny = requirement.evaluate(placeholder, player, params);
             if (deny != null) {
                 return deny;
             }
@@ -60,53 +71,4 @@ public final class RequirementManager {
         return null;
     }
 
-    /**
-     * Processes the requirement data and performs validation.
-     *
-     * @param requirementData The RequirementData object representing the requirement to be processed.
-     * @param data The PlaceholderData object containing the data needed for processing.
-     * @param player The Player object representing the player.
-     * @param params The array of parameters to be used for substitution.
-     * @return The deny message if the requirement is not met, or null if the requirement is met.
-     */
-    private String processRequirementData(
-            final RequirementData requirementData,
-            final Placeholder data,
-            final Player player,
-            final String[] params
-    ) {
-        final Requirement<?> requirement = this.getRequirementByType(requirementData.getIdentifier());
-
-        if (requirement == null) {
-            return null;
-        }
-
-        final String input = getParameters(player, data, requirementData.getInput(), params);
-        final String output = getParameters(player, data, requirementData.getOutput(), params);
-
-        if (requirement.validate(requirementData.getIdentifier(), input, output)) {
-            return null;
-        }
-
-        return requirementData.getDeny();
-    }
-
-    /**
-     * Retrieves the parameters for a placeholder evaluation by replacing arguments in a given message string.
-     *
-     * @param player     The Player object.
-     * @param data       The PlaceholderData object.
-     * @param parameter  The parameter to be replaced.
-     * @param params     The array of parameters to use for replacement.
-     * @return The message string with replaced arguments.
-     */
-    private String getParameters(
-            final Player player,
-            final Placeholder data,
-            final String parameter,
-            final String[] params
-    ) {
-        return PlaceholderAPI.setPlaceholders(player, data.replaceArguments(params, parameter));
-    }
-
 }
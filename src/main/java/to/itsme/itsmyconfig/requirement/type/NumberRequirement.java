@@ -1,8 +1,11 @@
 package to.itsme.itsmyconfig.requirement.type;
 
 import to.itsme.itsmyconfig.requirement.Requirement;
+import to.itsme.itsmyconfig.requirement.RequirementChecker;
+import to.itsme.itsmyconfig.util.Strings;
 
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 public final class NumberRequirement extends Requirement<Double> {
 
@@ -72,18 +75,11 @@ public final class NumberRequirement extends Requirement<Double> {
      * The identifiers() method returns the IDENTIFIERS array.
      * <p>
      * The validate() method is overridden from the Requirement class and takes an identifier, inputString, and outputString as parameters.
-     * It transforms the inputString and outputString into Double values and checks if both values are not null.
-     * If both values are not null, it checks if the identifier matches any of the required identifiers and checks if the input and output values satisfy
-     * the specific requirement by calling the isValid() method.
-     * If the requirement is satisfied, the method returns true. Otherwise, it returns false.
+     * It compiles the identifier and checks if the input and output numbers satisfy the comparison of the identifier.
+     * If the identifier has no comparison, the requirement is always satisfied.
      * <p>
-     * The transformString() method is a private helper method that takes a value as a String and tries to convert it into a Double value.
-     * It first tries to convert the value using Double.parseDouble(). If it fails, it tries to convert the value to an Integer using Integer.parseInt().
-     * If that fails, it tries to convert the value to a Float using Float.parseFloat().
-     * If all conversion attempts fail, it returns 0.0.
-     * <p>
-     * The areBothValuesNotNull() method is a private helper method that takes two Double values, input and output, and checks if both values are not null.
-     * If both values are not null, it returns true. Otherwise, it returns false.
+     * The transformString() method is a private helper method that takes a value as a String and converts it into a primitive double,
+     * without throwing. If the value isn't a number, it returns 0.0.
      */
     private final String[] IDENTIFIERS = new String[]{
             EQUAL_IDENTIFIER,
@@ -93,17 +89,37 @@ public final class NumberRequirement extends Requirement<Double> {
             LESSER_OR_EQUAL_IDENTIFIER,
             NOT_EQUAL_IDENTIFIER};
 
+    /**
+     * Represents the primitive comparison of every syntax, so numbers are never boxed while evaluating.
+     */
+    private final Map<String, Comparison> comparisons = new HashMap<>();
+
     /**
      * Represents a requirement for number values. It supports comparison operators such as equals, greater than,
      * lesser than, greater than or equal to, lesser than or equal to, and not equal to.
      */
     public NumberRequirement() {
-        this.addSyntaxRule(EQUAL_IDENTIFIER, Objects::equals);
-        this.addSyntaxRule(GREATER_IDENTIFIER, (input, output) -> input > output);
-        this.addSyntaxRule(LESSER_IDENTIFIER, (input, output) -> input < output);
-        this.addSyntaxRule(GREATER_OR_EQUAL_IDENTIFIER, this.syntaxRules.get(GREATER_IDENTIFIER)[0], this.syntaxRules.get(EQUAL_IDENTIFIER)[0]);
-        this.addSyntaxRule(LESSER_OR_EQUAL_IDENTIFIER, this.syntaxRules.get(LESSER_IDENTIFIER)[0], this.syntaxRules.get(EQUAL_IDENTIFIER)[0]);
-        this.addSyntaxRule(NOT_EQUAL_IDENTIFIER, (input, output) -> !Objects.equals(input, output));
+        // equality keeps the semantics of Double#equals, NaN equals NaN and 0.0 doesn't equal -0.0
+        this.addComparison(EQUAL_IDENTIFIER, (input, output) -> Double.compare(input, output) == 0);
+        this.addComparison(GREATER_IDENTIFIER, (input, output) -> input > output);
+        this.addComparison(LESSER_IDENTIFIER, (input, output) -> input < output);
+        this.addComparison(GREATER_OR_EQUAL_IDENTIFIER, (input, output) -> input > output || Double.compare(input, output) == 0);
+        this.addComparison(LESSER_OR_EQUAL_IDENTIFIER, (input, output) -> input < output || Double.compare(input, output) == 0);
+        this.addComparison(NOT_EQUAL_IDENTIFIER, (input, output) -> Double.compare(input, output) != 0);
+    }
+
+    /**
+     * Registers a primitive comparison, along with its boxed syntax rule.
+     *
+     * @param syntax     the syntax of the comparison
+     * @param comparison the comparison of the input and output numbers
+     */
+    private void addComparison(
+            final String syntax,
+            final Comparison comparison
+    ) {
+        this.comparisons.put(syntax, comparison);
+        this.addSyntaxRule(syntax, comparison::compare);
     }
 
     /**
@@ -120,9 +136,32 @@ public final class NumberRequirement extends Requirement<Double> {
             final String inputString,
             final String outputString
     ) {
-        final Double input = this.transformString(inputString);
-        final Double output = this.transformString(outputString);
-        return areBothValuesNotNull(input, output) && this.isValid(identifier, input, output);
+        return this.compile(identifier, null).check(inputString, outputString);
+    }
+
+    /**
+     * Compiles the identifier by resolving its comparison once, a constant output is parsed right away.
+     *
+     * @param identifier the identifier used to determine the type of validation
+     * @param constantOutput the output if it never changes between evaluations, null otherwise
+     * @return a checker comparing the input and output numbers
+     */
+    @Override
+    public RequirementChecker<String> compile(
+            final String identifier,
+            final String constantOutput
+    ) {
+        final Comparison comparison = this.comparisons.get(identifier);
+        if (comparison == null) {
+            return (inputString, outputString) -> true;
+        }
+
+        if (constantOutput != null) {
+            final double output = transformString(constantOutput);
+            return (inputString, outputString) -> comparison.compare(transformString(inputString), output);
+        }
+
+        return (inputString, outputString) -> comparison.compare(transformString(inputString), transformString(outputString));
     }
 
     /**
@@ -136,39 +175,22 @@ public final class NumberRequirement extends Requirement<Double> {
     }
 
     /**
-     * Converts a string to a double value. If the string can be parsed as a double, it will be returned as is.
-     * If the string cannot be parsed as a double, it will try to parse it as an integer. If that fails too, it will
-     * try to parse it as a float. If all parsing attempts fail, 0.0 will be returned.
+     * Converts a string to a double value without throwing, 0.0 is returned if the string isn't a number.
      *
      * @param value the string value to be converted
      * @return the converted double value or 0.0 if parsing fails
      */
-    private Double transformString(final String value) {
-        Double convertedValue = 0.0;
-        try {
-            convertedValue = Double.parseDouble(value);
-        } catch (NumberFormatException ignored) { }
-        if (convertedValue.equals(0.0)) {
-            try {
-                convertedValue = (double) Integer.parseInt(value);
-            } catch (NumberFormatException ignored) { }
-        }
-        if (convertedValue.equals(0.0)) {
-            try {
-                convertedValue = (double) Float.parseFloat(value);
-            } catch (NumberFormatException ignored) { }
-        }
-        return convertedValue;
+    private static double transformString(final String value) {
+        return Strings.doubleOrDefault(value, 0.0);
     }
 
     /**
-     * Checks if both input and output values are not null.
-     *
-     * @param input  the input value to check
-     * @param output the output value to check
-     * @return true if both input and output values are not null, false otherwise
+     * Represents a comparison between two primitive numbers.
      */
-    private boolean areBothValuesNotNull(Double input, Double output) {
-        return input != null && output != null;
+    @FunctionalInterface
+    private interface Comparison {
+
+        boolean compare(final double input, final double output);
+
     }
 }
@@ -1,8 +1,16 @@
 package to.itsme.itsmyconfig.requirement.type;
 
+import to.itsme.itsmyconfig.ItsMyConfig;
 import to.itsme.itsmyconfig.requirement.Requirement;
+import to.itsme.itsmyconfig.requirement.RequirementChecker;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * The RegexRequirement class is a concrete implementation of the Requirement class.
@@ -18,12 +26,37 @@ public final class RegexRequirement extends Requirement<String> {
      */
     private static final String REGEX_MATCHES_IDENTIFIER = "regex matches";
 
+    /**
+     * The maximum amount of compiled patterns kept for outputs that contain placeholders.
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * The maximum time a single match may take before it is aborted and treated as not matching.
+     */
+    private static final long MATCH_TIMEOUT_NANOS = 50_000_000L;
+
+    /**
+     * Represents the compiled patterns of dynamic outputs, evicting the least recently used one once full.
+     */
+    private final Map<String, Pattern> patterns = Collections.synchronizedMap(new LinkedHashMap<String, Pattern>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Pattern> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    /**
+     * Represents the patterns that were already reported as invalid or too slow, so they are only logged once.
+     */
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
     /**
      * The RegexRequirement class represents a requirement that checks if a regular expression
      * matches a given string input.
      */
     public RegexRequirement() {
-        this.addSyntaxRule(REGEX_MATCHES_IDENTIFIER, (input, output) -> Pattern.compile(output).matcher(input).matches());
+        this.addSyntaxRule(REGEX_MATCHES_IDENTIFIER, (input, output) -> this.matches(this.pattern(output), input));
     }
 
     /**
@@ -39,6 +72,84 @@ public final class RegexRequirement extends Requirement<String> {
         return this.isValid(REGEX_MATCHES_IDENTIFIER, input, output);
     }
 
+    /**
+     * Compiles the requirement, constant outputs are compiled into their pattern right away.
+     *
+     * @param identifier the unique identifier of the requirement
+     * @param constantOutput the output if it never changes between evaluations, null otherwise
+     * @return a checker matching the input against the output pattern
+     */
+    @Override
+    public RequirementChecker<String> compile(
+            final String identifier,
+            final String constantOutput
+    ) {
+        if (constantOutput == null) {
+            return (input, output) -> this.matches(this.pattern(output), input);
+        }
+
+        final Pattern pattern = this.compilePattern(constantOutput);
+        return (input, output) -> this.matches(pattern, input);
+    }
+
+    /**
+     * Retrieves the compiled pattern of an output, compiling it if it isn't cached.
+     *
+     * @param regex The regular expression.
+     * @return the compiled pattern, or null if the expression is invalid.
+     */
+    private Pattern pattern(final String regex) {
+        Pattern pattern = this.patterns.get(regex);
+        if (pattern == null) {
+            pattern = this.compilePattern(regex);
+            if (pattern != null) {
+                this.patterns.put(regex, pattern);
+            }
+        }
+        return pattern;
+    }
+
+    private Pattern compilePattern(final String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (final PatternSyntaxException exception) {
+            this.report(regex, "Invalid regex requirement \"" + regex + "\": " + exception.getDescription());
+            return null;
+        }
+    }
+
+    /**
+     * Matches an input against a pattern, aborting once the match takes longer than {@link #MATCH_TIMEOUT_NANOS}.
+     *
+     * @param pattern The pattern, null never matches.
+     * @param input The input to match.
+     * @return true if the whole input matches the pattern.
+     */
+    private boolean matches(
+            final Pattern pattern,
+            final String input
+    ) {
+        if (pattern == null) {
+            return false;
+        }
+
+        try {
+            return pattern.matcher(new TimedCharSequence(input, System.nanoTime() + MATCH_TIMEOUT_NANOS)).matches();
+        } catch (final MatchTimeoutException ignored) {
+            this.report(pattern.pattern(), "Regex requirement \"" + pattern.pattern() + "\" took too long to match and was aborted");
+            return false;
+        }
+    }
+
+    private void report(
+            final String regex,
+            final String message
+    ) {
+        if (this.reported.add(regex)) {
+            ItsMyConfig.getInstance().getLogger().warning(message);
+        }
+    }
+
     /**
      * Checks if the given identifier matches the required identifier.
      *
@@ -59,4 +170,59 @@ public final class RegexRequirement extends Requirement<String> {
     public String[] identifiers() {
         return new String[]{REGEX_MATCHES_IDENTIFIER};
     }
+
+    /**
+     * Represents an input that checks the match deadline while the regex engine reads it.
+     * <br>
+     * Catastrophic backtracking reads the input over and over, so it always ends up hitting the check.
+     */
+    private static final class TimedCharSequence implements CharSequence {
+
+        private final CharSequence text;
+        private final long deadline;
+        private int reads;
+
+        private TimedCharSequence(
+                final CharSequence text,
+                final long deadline
+        ) {
+            this.text = text;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if ((++this.reads & 0xFFF) == 0 && System.nanoTime() > this.deadline) {
+                throw new MatchTimeoutException();
+            }
+            return this.text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return this.text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(
+                final int start,
+                final int end
+        ) {
+            return new TimedCharSequence(this.text.subSequence(start, end), this.deadline);
+        }
+
+        @Override
+        public String toString() {
+            return this.text.toString();
+        }
+
+    }
+
+    private static final class MatchTimeoutException extends RuntimeException {
+
+        private MatchTimeoutException() {
+            super(null, null, false, false);
+        }
+
+    }
 }
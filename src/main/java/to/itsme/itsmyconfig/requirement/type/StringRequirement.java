@@ -1,10 +1,8 @@
 package to.itsme.itsmyconfig.requirement.type;
 
 import to.itsme.itsmyconfig.requirement.Requirement;
+import to.itsme.itsmyconfig.requirement.RequirementChecker;
 import to.itsme.itsmyconfig.util.Strings;
-import to.itsme.itsmyconfig.util.Utilities;
-
-import java.util.Arrays;
 
 /**
  * The StringRequirement class is a final class that extends the Requirement class. It represents a requirement
@@ -31,90 +29,63 @@ public final class StringRequirement extends Requirement<String> {
      */
     @Override
     public boolean validate(
-            String identifier,
+            final String identifier,
             final String inputString,
             final String outputString
     ) {
-        final String[] modifiedValues = handleSpecialIdentifiers(
-                identifier, inputString, outputString
-        );
-
-        identifier = modifiedValues[0];
-        final String input = modifiedValues[1];
-        final String output = modifiedValues[2];
-
-        final boolean reverse = identifier.startsWith("!");
-        final String[] syntaxArguments = identifier.split(" ");
-
-        return validateStrings(
-                reverse,
-                Arrays.copyOfRange(
-                        identifier.split(" "),
-                        1,
-                        syntaxArguments.length
-                ),
-                input,
-                output
-        );
+        return this.compile(identifier, null).check(inputString, outputString);
     }
 
     /**
-     * Handle special identifiers and return the modified values.
+     * Compiles the identifier once: the special modifiers are turned into flags and the syntax arguments are resolved to their rules.
      *
-     * @param identifier     the special identifier to handle
-     * @param inputString    the input string to modify
-     * @param outputString   the output string to modify
-     * @return an array of strings containing the modified identifier, input, and output
+     * @param identifier The identifier for the syntax rule. It can include special modifiers like 'ignorecase' and 'ignorecolor'.
+     * @param constantOutput The output if it never changes between evaluations, null otherwise.
+     * @return a checker validating the input and output strings.
      */
-    // Handle special identifiers and return the modified values
-    private String[] handleSpecialIdentifiers(
+    @Override
+    @SuppressWarnings("unchecked")
+    public RequirementChecker<String> compile(
             String identifier,
-            final String inputString,
-            final String outputString
+            final String constantOutput
     ) {
-        String input = inputString;
-        String output = outputString;
-
-        if (identifier.contains("ignorecase")) {
+        final boolean ignoreCase = identifier.contains("ignorecase");
+        if (ignoreCase) {
             identifier = identifier.replace("ignorecase", "");
-            input = inputString.toLowerCase();
-            output = outputString.toLowerCase();
         }
 
-        if (identifier.contains("ignorecolor")) {
+        final boolean ignoreColor = identifier.contains("ignorecolor");
+        if (ignoreColor) {
             identifier = identifier.replace("ignorecolor", "");
-            input = Strings.colorless(inputString);
-            output = Strings.colorless(outputString);
         }
 
-        return new String[]{identifier, input, output};
-    }
-
-    /**
-     * Validates input and output strings based on syntax arguments and the 'reverse' flag.
-     * It checks if the input and output strings satisfy the given requirement.
-     *
-     * @param reverse          a boolean indicating whether to reverse the requirement
-     * @param syntaxArguments  an array of syntax arguments representing the requirements
-     * @param input            a String representing the input value to be checked
-     * @param output           a String representing the output value to be checked against
-     * @return true if the input and output strings satisfy the requirements, false otherwise
-     */
-    // Validate input and output strings based on syntaxArguments and 'reverse' flag
-    private boolean validateStrings(
-            final boolean reverse,
-            final String[] syntaxArguments,
-            final String input,
-            final String output
-    ) {
-        boolean result = true;
-
-        for (String syntax : syntaxArguments) {
-            result = reverse != this.isValid(syntax, input, output);
-            if (!result) break;
+        final boolean reverse = identifier.startsWith("!");
+        final String[] syntaxArguments = identifier.split(" ");
+        final RequirementChecker<String>[][] rules = new RequirementChecker[Math.max(0, syntaxArguments.length - 1)][];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = this.syntaxRules.get(syntaxArguments[i + 1]);
         }
 
-        return result;
+        return (inputString, outputString) -> {
+            String input = inputString;
+            String output = outputString;
+
+            // colors are removed from the original strings, replacing the lowercase ones
+            if (ignoreColor) {
+                input = Strings.colorless(inputString);
+                output = Strings.colorless(outputString);
+            } else if (ignoreCase) {
+                input = inputString.toLowerCase();
+                output = outputString.toLowerCase();
+            }
+
+            for (final RequirementChecker<String>[] rule : rules) {
+                if (reverse == check(rule, input, output)) {
+                    return false;
+                }
+            }
+            return true;
+        };
     }
 
     /**
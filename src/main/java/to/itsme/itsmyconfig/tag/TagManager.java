@@ -8,6 +8,7 @@ import to.itsme.itsmyconfig.tag.api.Tag;
 import to.itsme.itsmyconfig.tag.impl.*;
 import to.itsme.itsmyconfig.tag.impl.title.SubtitleTag;
 import to.itsme.itsmyconfig.tag.impl.title.TitleTag;
+import to.itsme.itsmyconfig.util.Strings;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,7 +18,6 @@ import java.util.regex.Pattern;
 
 public final class TagManager {
 
-    private static final Pattern ARG_TAG_PATTERN = Pattern.compile("<(\\w+)((?::\"([^\"]*)\"|:'([^']*)'|:([^<]*))*)>");
     private static final Pattern ARG_PATTERN = Pattern.compile(":\"([^\"]*)\"|:'([^']*)'|:([^:\"]*)");
 
     private static int INITIAL_CAPACITY;
@@ -37,6 +37,25 @@ public final class TagManager {
         INITIAL_CAPACITY = defaultCapacity.get();
     }
 
+    /**
+     * Checks if the text contains any registered argument tag.
+     *
+     * @param text The text to check.
+     * @return true if an argument tag might be present in the text.
+     */
+    public static boolean hasArgumentTags(final @NotNull String text) {
+        if (text.indexOf('<') == -1) {
+            return false;
+        }
+
+        for (final String name : tags.keySet()) {
+            if (text.contains("<" + name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static String process(
             final Player player,
             @NotNull String text
@@ -47,52 +66,93 @@ public final class TagManager {
         return text;
     }
 
+    /**
+     * Processes the argument tags of a text in a single pass.
+     * <br>
+     * Tags are matched like {@code <(\w+)((?::"([^"]*)"|:'([^']*)'|:([^<]*))*)>}, a tag preceded by an odd amount of backslashes is escaped and kept as-is.
+     *
+     * @param player The player the tags are processed for.
+     * @param text The text containing the tags.
+     * @return the text with every argument tag replaced by its output.
+     */
     public static String processArgumentTags(
             final Player player,
-            @NotNull String text
+            final @NotNull String text
     ) {
-        Matcher matcher = ARG_TAG_PATTERN.matcher(text);
-        while (matcher.find()) {
-            final String match = matcher.group(0);
-
-            final int index = text.indexOf(match);
-            if (index > 0) {
-                if (text.charAt(index - 1) == '\\') {
-                    continue;
-                }
-            }
+        int open = text.indexOf('<');
+        if (open == -1) {
+            return text;
+        }
 
-            final String tagName = matcher.group(1);
-            final Tag tag = tags.get(tagName);
-            if (!(tag instanceof ArgumentsTag)) {
+        StringBuilder builder = null;
+        int copied = 0;
+        while (open != -1) {
+            final int nameEnd = nameEnd(text, open + 1);
+            final int end = nameEnd == open + 1 ? -1 : Strings.argumentTagEnd(text, nameEnd);
+            if (end == -1) {
+                open = text.indexOf('<', open + 1);
                 continue;
             }
 
-            final String arguments = matcher.group(2);
-            final ArrayList<String> args = getArguments(arguments);
+            final String tagName = text.substring(open + 1, nameEnd);
+            final Tag tag = tags.get(tagName);
+            if (tag instanceof ArgumentsTag && !isEscaped(text, open)) {
+                final ArrayList<String> args = getArguments(text.substring(nameEnd, end - 1));
+                if (args.size() == 1 && args.get(0).equals("cancel")) {
+                    if (tag instanceof Cancellable) {
+                        ((Cancellable) tag).cancelFor(player);
+                        return "";
+                    }
+                }
 
-            if (args.size() == 1 && args.get(0).equals("cancel")) {
-                if (tag instanceof Cancellable) {
-                    ((Cancellable) tag).cancelFor(player);
-                    return "";
+                final String replaced;
+                final ArgumentsTag argumentsTag = (ArgumentsTag) tag;
+                if (args.size() < argumentsTag.minArguments()) {
+                    replaced = "[Not enough argument for Tag: " + tagName + "]";
+                } else if (args.size() > argumentsTag.maxArguments()) {
+                    replaced = "[Too much arguments for Tag: " + tagName + "]";
+                } else {
+                    replaced = argumentsTag.process(player, args.toArray(new String[0]));
                 }
-            }
 
-            final String replaced;
-            final ArgumentsTag argumentsTag = (ArgumentsTag) tag;
-            if (args.size() < argumentsTag.minArguments()) {
-                replaced = "[Not enough argument for Tag: " + tagName + "]";
-            } else if (args.size() > argumentsTag.maxArguments()) {
-                replaced = "[Too much arguments for Tag: " + tagName + "]";
-            } else {
-                replaced = argumentsTag.process(player, args.toArray(new String[0]));
+                if (builder == null) {
+                    builder = new StringBuilder(text.length());
+                }
+                builder.append(text, copied, open).append(replaced);
+                copied = end;
             }
 
-            text = text.substring(0, index) + replaced + text.substring(matcher.end());
-            matcher = ARG_TAG_PATTERN.matcher(text);
+            open = text.indexOf('<', end);
         }
 
-        return text;
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Finds the end of the tag name starting at the given index.
+     */
+    private static int nameEnd(
+            final String text,
+            int index
+    ) {
+        while (index < text.length() && Strings.isWordCharacter(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isEscaped(
+            final String text,
+            final int index
+    ) {
+        int backslashes = 0;
+        for (int i = index - 1; i >= 0 && text.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return (backslashes & 1) == 1;
     }
 
     private static ArrayList<String> getArguments(final String arguments) {
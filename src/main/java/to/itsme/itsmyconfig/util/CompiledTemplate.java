@@ -0,0 +1,113 @@
+package to.itsme.itsmyconfig.util;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import to.itsme.itsmyconfig.tag.TagManager;
+
+import java.util.Locale;
+
+/**
+ * Represents a message template that was already prepared for translation.
+ * <br>
+ * Templates that neither depend on the player nor trigger argument tags always render to the same component,
+ * so that component is kept and reused by reference.
+ */
+public final class CompiledTemplate {
+
+    /**
+     * Represents the tags whose output depends on the player the template is rendered for.
+     */
+    private static final String[] PLAYER_TAGS = {"<p:", "<p>", "<papi:", "<papi>"};
+
+    private final String text;
+    private final boolean argumentTags;
+    private final boolean playerDependent;
+    private volatile Component component;
+
+    private CompiledTemplate(
+            final String text,
+            final boolean argumentTags,
+            final boolean playerDependent
+    ) {
+        this.text = text;
+        this.argumentTags = argumentTags;
+        this.playerDependent = playerDependent;
+    }
+
+    /**
+     * Prepares a raw template for translation.
+     *
+     * @param template The raw template.
+     * @return the compiled template.
+     */
+    public static CompiledTemplate compile(final @NotNull String template) {
+        final String quoted = Strings.quote(template);
+        final String lowercase = quoted.toLowerCase(Locale.ROOT);
+
+        boolean playerDependent = false;
+        for (final String tag : PLAYER_TAGS) {
+            if (lowercase.contains(tag)) {
+                playerDependent = true;
+                break;
+            }
+        }
+
+        return new CompiledTemplate(quoted, TagManager.hasArgumentTags(quoted), playerDependent);
+    }
+
+    /**
+     * Retrieves the quoted text of the template.
+     *
+     * @return The text ready to be processed by the tag manager and MiniMessage.
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Checks if the template contains argument tags, which have side effects and must be processed every time.
+     *
+     * @return true if the template contains argument tags.
+     */
+    public boolean hasArgumentTags() {
+        return this.argumentTags;
+    }
+
+    /**
+     * Checks if the template contains placeholder tags that are resolved per player.
+     *
+     * @return true if the output depends on the player.
+     */
+    public boolean isPlayerDependent() {
+        return this.playerDependent;
+    }
+
+    /**
+     * Checks if the template renders the same component every time.
+     *
+     * @return true if the rendered component can be reused.
+     */
+    public boolean isStatic() {
+        return !this.argumentTags && !this.playerDependent;
+    }
+
+    /**
+     * Retrieves the rendered component of a static template.
+     *
+     * @return the rendered component, or null if it wasn't rendered yet.
+     */
+    public @Nullable Component getComponent() {
+        return this.component;
+    }
+
+    /**
+     * Stores the rendered component of a static template.
+     *
+     * @param component The rendered component.
+     */
+    public void setComponent(final @NotNull Component component) {
+        this.component = component;
+    }
+
+}
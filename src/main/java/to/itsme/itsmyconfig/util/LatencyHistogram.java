@@ -0,0 +1,85 @@
+package to.itsme.itsmyconfig.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two microsecond buckets.
+ * <br>
+ * Bucket {@code i} counts the samples that took less than {@code 2^i} microseconds,
+ * the last bucket counts everything above.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder(), totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param nanos The measured latency in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        this.buckets[bucket].increment();
+        this.count.increment();
+        this.totalNanos.add(nanos);
+    }
+
+    /**
+     * Retrieves the amount of recorded samples.
+     *
+     * @return the amount of samples.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Retrieves the average latency.
+     *
+     * @return the average latency in microseconds, 0 if nothing was recorded.
+     */
+    public double getAverageMicros() {
+        final long count = this.count.sum();
+        return count == 0 ? 0 : this.totalNanos.sum() / 1000D / count;
+    }
+
+    /**
+     * Retrieves the upper bound of the bucket holding the given percentile.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return the latency in microseconds under which the percentile falls, 0 if nothing was recorded.
+     */
+    public long getPercentileMicros(final double percentile) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = (long) Math.ceil(total * percentile / 100D);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+}
@@ -0,0 +1,284 @@
+package to.itsme.itsmyconfig.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Thread-safe number formatting, writing the digits into a per-thread buffer.
+ * <br>
+ * Every method gives the exact same output as the {@link BigDecimal} or {@link DecimalFormat} call it replaces.
+ * Rounding decisions are taken on the exact value of the double, values the fast path can't decide exactly
+ * (out of range, NaN, infinite or {@link RoundingMode#UNNECESSARY}) go through the original call.
+ */
+public final class NumberFormatter {
+
+    /**
+     * Represents the largest magnitude handled by the fast path, integers below it are exact in a double.
+     */
+    private static final double FAST_LIMIT = 0x1p52;
+
+    /**
+     * Represents the smallest non-zero magnitude handled by the fast path, so the rounding error can be computed exactly.
+     */
+    private static final double FAST_MINIMUM = 1e-200;
+
+    /**
+     * Represents the powers of ten that are exact in a double.
+     */
+    private static final double[] POWERS_OF_TEN = new double[19];
+
+    static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private static final DecimalFormat DEFAULT_FORMAT = new DecimalFormat("#");
+    private static final DecimalFormatSymbols SYMBOLS = DEFAULT_FORMAT.getDecimalFormatSymbols();
+    private static final char ZERO = SYMBOLS.getZeroDigit(), GROUPING = SYMBOLS.getGroupingSeparator();
+    private static final String NEGATIVE_PREFIX = DEFAULT_FORMAT.getNegativePrefix(), NEGATIVE_SUFFIX = DEFAULT_FORMAT.getNegativeSuffix();
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+    private static final ThreadLocal<DecimalFormat> FIXED = ThreadLocal.withInitial(() -> new DecimalFormat("#"));
+    private static final ThreadLocal<DecimalFormat> COMMAS = ThreadLocal.withInitial(() -> new DecimalFormat("#,###"));
+
+    /**
+     * Rounds a number and prints it without trailing zeros nor exponent.
+     * <br>
+     * Same as {@code new BigDecimal(value).setScale(precision, mode).stripTrailingZeros().toPlainString()}.
+     *
+     * @param value The number.
+     * @param precision The amount of decimals to round to.
+     * @param mode The rounding mode.
+     * @return the formatted number.
+     */
+    public static String plain(
+            final double value,
+            final int precision,
+            final RoundingMode mode
+    ) {
+        if (precision < 0 || precision >= POWERS_OF_TEN.length || mode == RoundingMode.UNNECESSARY || !isFast(value * POWERS_OF_TEN[precision])) {
+            return new BigDecimal(value).setScale(precision, mode).stripTrailingZeros().toPlainString();
+        }
+
+        final long rounded = round(value, POWERS_OF_TEN[precision], mode);
+        if (rounded == 0) {
+            return "0";
+        }
+
+        final char[] buffer = BUFFER.get();
+        int position = buffer.length;
+        long remaining = Math.abs(rounded);
+        int decimals = precision;
+        while (decimals > 0 && remaining % 10 == 0) {
+            remaining /= 10;
+            decimals--;
+        }
+
+        for (int i = 0; i < decimals; i++) {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (decimals > 0) {
+            buffer[--position] = '.';
+        }
+
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        if (rounded < 0) {
+            buffer[--position] = '-';
+        }
+        return new String(buffer, position, buffer.length - position);
+    }
+
+    /**
+     * Rounds a number to an integer, half even.
+     * <br>
+     * Same as {@code new DecimalFormat("#").format(value)}.
+     *
+     * @param value The number.
+     * @return the formatted number.
+     */
+    public static String fixed(final double value) {
+        if (!isFast(value)) {
+            return FIXED.get().format(value);
+        }
+        return integer(value, false);
+    }
+
+    /**
+     * Rounds a number to an integer, half even, and separates every three digits.
+     * <br>
+     * Same as {@code new DecimalFormat("#,###").format(value)}.
+     *
+     * @param value The number.
+     * @return the formatted number.
+     */
+    public static String commas(final double value) {
+        if (!isFast(value)) {
+            return COMMAS.get().format(value);
+        }
+        return integer(value, true);
+    }
+
+    /**
+     * Shortens a number with the suffix of its magnitude, keeping one decimal below 10 of a magnitude (1.5K, 15K).
+     *
+     * @param value The number.
+     * @param suffixes The suffixes by magnitude, starting at 1000.
+     * @return the formatted number.
+     */
+    public static String suffixed(
+            final long value,
+            final NavigableMap<Long, String> suffixes
+    ) {
+        // Long.MIN_VALUE has no positive counterpart
+        final long magnitude = value == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(value);
+        if (magnitude < 1000) {
+            return Long.toString(value);
+        }
+
+        final Map.Entry<Long, String> entry = suffixes.floorEntry(magnitude);
+        final long truncated = magnitude / (entry.getKey() / 10);
+        final char[] buffer = BUFFER.get();
+        int position = buffer.length;
+
+        long remaining = truncated / 10;
+        if (truncated < 100 && truncated % 10 != 0) {
+            buffer[--position] = (char) ('0' + truncated % 10);
+            buffer[--position] = '.';
+        }
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        if (value < 0) {
+            buffer[--position] = '-';
+        }
+        return new String(buffer, position, buffer.length - position).concat(entry.getValue());
+    }
+
+    private static String integer(
+            final double value,
+            final boolean grouping
+    ) {
+        // DecimalFormat keeps the sign of negative numbers rounded to zero, and of negative zero
+        final boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+        final long rounded = round(value, 1, RoundingMode.HALF_EVEN);
+        final char[] buffer = BUFFER.get();
+        int position = buffer.length;
+        if (negative) {
+            position -= NEGATIVE_SUFFIX.length();
+            NEGATIVE_SUFFIX.getChars(0, NEGATIVE_SUFFIX.length(), buffer, position);
+        }
+
+        long remaining = Math.abs(rounded);
+        int digits = 0;
+        do {
+            if (grouping && digits != 0 && digits % 3 == 0) {
+                buffer[--position] = GROUPING;
+            }
+            buffer[--position] = (char) (ZERO + remaining % 10);
+            remaining /= 10;
+            digits++;
+        } while (remaining != 0);
+
+        if (negative) {
+            position -= NEGATIVE_PREFIX.length();
+            NEGATIVE_PREFIX.getChars(0, NEGATIVE_PREFIX.length(), buffer, position);
+        }
+        return new String(buffer, position, buffer.length - position);
+    }
+
+    private static boolean isFast(final double scaled) {
+        final double magnitude = Math.abs(scaled);
+        return magnitude < FAST_LIMIT && (magnitude >= FAST_MINIMUM || magnitude == 0);
+    }
+
+    /**
+     * Rounds {@code value * scale} to an integer, deciding on the exact product rather than the rounded double.
+     */
+    private static long round(
+            final double value,
+            final double scale,
+            final RoundingMode mode
+    ) {
+        final boolean negative = value < 0;
+        final double magnitude = Math.abs(value) * scale;
+        final double error = productError(Math.abs(value), scale, magnitude);
+
+        // rounding the magnitude, so the fraction is exact
+        final long floor = (long) magnitude;
+        final double fraction = magnitude - floor;
+        final int comparedToFloor = fraction != 0 ? 1 : Double.compare(error, 0);
+        if (comparedToFloor == 0) {
+            return negative ? -floor : floor;
+        }
+
+        final long below = comparedToFloor < 0 ? floor - 1 : floor;
+        final int comparedToHalf;
+        if (comparedToFloor < 0) {
+            // just below an integer
+            comparedToHalf = 1;
+        } else if (fraction < 0.25) {
+            comparedToHalf = -1;
+        } else {
+            comparedToHalf = (int) Math.signum((fraction - 0.5) + error);
+        }
+
+        final boolean away;
+        switch (mode) {
+            case UP:
+                away = true;
+                break;
+            case DOWN:
+                away = false;
+                break;
+            case CEILING:
+                away = !negative;
+                break;
+            case FLOOR:
+                away = negative;
+                break;
+            case HALF_UP:
+                away = comparedToHalf >= 0;
+                break;
+            case HALF_DOWN:
+                away = comparedToHalf > 0;
+                break;
+            case HALF_EVEN:
+                away = comparedToHalf > 0 || (comparedToHalf == 0 && (below & 1) != 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported rounding mode " + mode);
+        }
+
+        final long rounded = away ? below + 1 : below;
+        return negative ? -rounded : rounded;
+    }
+
+    /**
+     * Computes the rounding error of a product, so that {@code a * b == product + error} exactly (Dekker's product).
+     */
+    private static double productError(
+            final double a,
+            final double b,
+            final double product
+    ) {
+        final double splitA = 134217729.0 * a, splitB = 134217729.0 * b;
+        final double highA = splitA - (splitA - a), lowA = a - highA;
+        final double highB = splitB - (splitB - b), lowB = b - highB;
+        return ((highA * highB - product) + highA * lowB + lowA * highB) + lowA * lowB;
+    }
+
+}
@@ -12,7 +12,6 @@ import java.util.regex.Pattern;
 
 public final class Strings {
 
-    public static final Pattern LETTERS_PATTERN = Pattern.compile("[A-Za-zÀ-ÿ]");
     public static final Pattern HEX_PATTERN = Pattern.compile("#[a-fA-F0-9]{6}");
     public static final Pattern TAG_PATTERN = Pattern.compile("<(\\w+)(?::\"([^\"]*)\"|:([^<]*))*>");
 
@@ -96,6 +95,247 @@ public final class Strings {
         return COLOR_FILTER.matcher(text).replaceAll("");
     }
 
+    /**
+     * Checks if the visible part of a text starts with the given prefix.
+     * <br>
+     * Legacy color codes and tags are skipped wherever they appear, leading whitespace is ignored.
+     * This is a single pass equivalent of removing colors and {@link #TAG_PATTERN} matches, trimming and calling startsWith.
+     *
+     * @param text The text to check.
+     * @param prefix The prefix that the visible text should start with.
+     * @return {@code true} if the visible text starts with the prefix, {@code false} otherwise.
+     */
+    public static boolean startsWithVisible(
+            final String text,
+            final String prefix
+    ) {
+        final int length = text.length();
+        final int prefixLength = prefix.length();
+
+        int matched = 0;
+        int cursor = 0;
+        while (cursor < length) {
+            if (matched == prefixLength) {
+                return true;
+            }
+
+            if (cursor + 1 < length && isColorCode(text, cursor)) {
+                cursor += 2;
+                continue;
+            }
+
+            final char character = text.charAt(cursor);
+            if (character == '<') {
+                final int end = tagEnd(text, cursor);
+                if (end != -1) {
+                    cursor = end;
+                    continue;
+                }
+            }
+
+            if (matched == 0 && character <= ' ') {
+                cursor++;
+                continue;
+            }
+
+            if (character != prefix.charAt(matched)) {
+                return false;
+            }
+
+            matched++;
+            cursor++;
+        }
+
+        return matched == prefixLength;
+    }
+
+    /**
+     * Removes the first occurrence of the symbol prefix and replaces every '§' with '&amp;', in a single pass.
+     * <br>
+     * The same as replacing the first quoted prefix and then every quoted '§' with regexes.
+     *
+     * @param message The message, as converted from a packet.
+     * @param prefix The symbol prefix to remove.
+     * @return the message without the prefix, or the same instance if there was nothing to change.
+     */
+    public static String processMessage(
+            final String message,
+            final String prefix
+    ) {
+        final int prefixIndex = message.indexOf(prefix);
+        if (prefixIndex == -1 && message.indexOf('§') == -1) {
+            return message;
+        }
+
+        final int prefixEnd = prefixIndex == -1 ? -1 : prefixIndex + prefix.length();
+        final StringBuilder builder = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); i++) {
+            if (i >= prefixIndex && i < prefixEnd) {
+                continue;
+            }
+
+            final char character = message.charAt(i);
+            builder.append(character == '§' ? '&' : character);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Finds the end of a tag matching {@link #TAG_PATTERN} that starts at the given index.
+     *
+     * @param text The text containing the tag.
+     * @param start The index of the opening '&lt;'.
+     * @return the index right after the closing '&gt;', or -1 if no tag starts there.
+     */
+    private static int tagEnd(
+            final String text,
+            final int start
+    ) {
+        boolean named = false;
+        int cursor = skipColors(text, start + 1);
+        while (cursor < text.length() && isWordCharacter(text.charAt(cursor))) {
+            named = true;
+            cursor = skipColors(text, cursor + 1);
+        }
+
+        if (!named) {
+            return -1;
+        }
+
+        return tagArgumentsEnd(text, cursor, true);
+    }
+
+    /**
+     * Finds the end of an argument tag whose name ends at the given index.
+     * <br>
+     * Argument tags are matched like {@code <(\w+)((?::"([^"]*)"|:'([^']*)'|:([^<]*))*)>},
+     * unlike {@link #TAG_PATTERN} arguments can be single quoted and color codes aren't skipped.
+     *
+     * @param text The text containing the tag.
+     * @param nameEnd The index right after the tag name.
+     * @return the index right after the closing '&gt;', or -1 if the tag isn't closed.
+     */
+    public static int argumentTagEnd(
+            final String text,
+            final int nameEnd
+    ) {
+        return tagArgumentsEnd(text, nameEnd, false);
+    }
+
+    /**
+     * Matches the arguments part of a tag, respecting the same backtracking order as the regex.
+     *
+     * @param text The text containing the tag.
+     * @param start The index right after the tag name or a previous argument.
+     * @param colored true to match {@link #TAG_PATTERN} on colored text, false to match an argument tag.
+     * @return the index right after the closing '&gt;', or -1 if the tag isn't closed.
+     */
+    private static int tagArgumentsEnd(
+            final String text,
+            final int start,
+            final boolean colored
+    ) {
+        final int length = text.length();
+        final int cursor = colored ? skipColors(text, start) : start;
+        if (cursor >= length) {
+            return -1;
+        }
+
+        final char character = text.charAt(cursor);
+        if (character == '>') {
+            return cursor + 1;
+        }
+
+        if (character != ':') {
+            return -1;
+        }
+
+        final int quoted = quotedArgumentEnd(text, cursor, colored);
+        if (quoted != -1) {
+            return quoted;
+        }
+
+        int limit = text.indexOf('<', cursor + 1);
+        if (limit == -1) {
+            limit = length;
+        }
+
+        for (int index = limit - 1; index > cursor; index--) {
+            final char found = text.charAt(index);
+            if (found == '>') {
+                return index + 1;
+            }
+
+            if (found == ':') {
+                final int end = quotedArgumentEnd(text, index, colored);
+                if (end != -1) {
+                    return end;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Matches a quoted argument starting at the given ':' and whatever follows it.
+     */
+    private static int quotedArgumentEnd(
+            final String text,
+            final int colon,
+            final boolean colored
+    ) {
+        final int quote = colored ? skipColors(text, colon + 1) : colon + 1;
+        if (quote >= text.length()) {
+            return -1;
+        }
+
+        final char character = text.charAt(quote);
+        if (character != '"' && (colored || character != '\'')) {
+            return -1;
+        }
+
+        final int closing = text.indexOf(character, quote + 1);
+        return closing == -1 ? -1 : tagArgumentsEnd(text, closing + 1, colored);
+    }
+
+    /**
+     * Skips the legacy color codes starting at the given index, the same ones {@link #colorless(String)} removes.
+     */
+    private static int skipColors(
+            final String text,
+            int index
+    ) {
+        while (index + 1 < text.length() && isColorCode(text, index)) {
+            index += 2;
+        }
+        return index;
+    }
+
+    private static boolean isColorCode(
+            final String text,
+            final int index
+    ) {
+        final char character = text.charAt(index);
+        return (character == '§' || character == '&') && isAsciiAlphanumeric(text.charAt(index + 1));
+    }
+
+    /**
+     * Checks if a character is matched by {@code \w}.
+     *
+     * @param character The character to check.
+     * @return true for ASCII letters, digits and '_'.
+     */
+    public static boolean isWordCharacter(final char character) {
+        return isAsciiAlphanumeric(character) || character == '_';
+    }
+
+    private static boolean isAsciiAlphanumeric(final char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9');
+    }
+
     /**
      * Escapes Tags based on the special properties provided.
      *
@@ -199,6 +439,134 @@ public final class Strings {
         } catch (final Throwable ignored) { return defaultDouble; }
     }
 
+    /**
+     * Parses a double without using exceptions for invalid input.
+     * <br>
+     * Accepts exactly what {@link Double#parseDouble(String)} accepts, plain integers are parsed directly.
+     *
+     * @param text The text to parse.
+     * @param defaultDouble The value returned if the text isn't a number.
+     * @return the parsed number, or the default value.
+     */
+    public static double doubleOrDefault(final String text, final double defaultDouble) {
+        if (text == null) {
+            return defaultDouble;
+        }
+
+        int start = 0, end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            return defaultDouble;
+        }
+
+        // plain integers of up to 15 digits are exact in a double
+        final char sign = text.charAt(start);
+        final int digitsStart = sign == '-' || sign == '+' ? start + 1 : start;
+        if (end > digitsStart && end - digitsStart <= 15) {
+            long value = 0;
+            int index = digitsStart;
+            for (; index < end; index++) {
+                final char character = text.charAt(index);
+                if (character < '0' || character > '9') {
+                    break;
+                }
+                value = value * 10 + (character - '0');
+            }
+
+            if (index == end) {
+                final double result = value;
+                return sign == '-' ? -result : result;
+            }
+        }
+
+        return isDoubleLiteral(text, start, end) ? Double.parseDouble(text) : defaultDouble;
+    }
+
+    /**
+     * Checks the trimmed text against the grammar of {@link Double#valueOf(String)}.
+     */
+    private static boolean isDoubleLiteral(
+            final String text,
+            final int start,
+            final int end
+    ) {
+        int index = start;
+        if (text.charAt(index) == '-' || text.charAt(index) == '+') {
+            index++;
+        }
+
+        final int remaining = end - index;
+        if ((remaining == 3 && text.startsWith("NaN", index)) || (remaining == 8 && text.startsWith("Infinity", index))) {
+            return true;
+        }
+
+        final boolean hex = remaining > 2 && text.charAt(index) == '0' && (text.charAt(index + 1) == 'x' || text.charAt(index + 1) == 'X');
+        if (hex) {
+            index += 2;
+        }
+
+        int digits = 0;
+        while (index < end && isDigit(text.charAt(index), hex)) {
+            index++;
+            digits++;
+        }
+
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+            while (index < end && isDigit(text.charAt(index), hex)) {
+                index++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        final boolean hasExponent = index < end && (hex
+                ? text.charAt(index) == 'p' || text.charAt(index) == 'P'
+                : text.charAt(index) == 'e' || text.charAt(index) == 'E');
+        if (hex && !hasExponent) {
+            return false;
+        }
+
+        if (hasExponent) {
+            index++;
+            if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+                index++;
+            }
+
+            final int exponentStart = index;
+            while (index < end && isDigit(text.charAt(index), false)) {
+                index++;
+            }
+
+            if (index == exponentStart) {
+                return false;
+            }
+        }
+
+        if (index < end && "fFdD".indexOf(text.charAt(index)) != -1) {
+            index++;
+        }
+
+        return index == end;
+    }
+
+    private static boolean isDigit(
+            final char character,
+            final boolean hex
+    ) {
+        return (character >= '0' && character <= '9')
+                || (hex && ((character >= 'a' && character <= 'f') || (character >= 'A' && character <= 'F')));
+    }
+
     /**
      * Converts an integer to a Roman numeral representation.
      *
@@ -0,0 +1,107 @@
+package to.itsme.itsmyconfig.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The TemplateCache class keeps the most recently used {@link CompiledTemplate}s, keyed by their raw text.
+ * It is bounded and evicts the least recently used template once full.
+ */
+public final class TemplateCache {
+
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+    private final Map<String, CompiledTemplate> templates;
+    private volatile int maximumSize;
+
+    /**
+     * Creates a template cache.
+     *
+     * @param maximumSize The maximum amount of templates to keep, 0 disables caching.
+     */
+    public TemplateCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.templates = new LinkedHashMap<String, CompiledTemplate>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CompiledTemplate> eldest) {
+                if (size() > TemplateCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the compiled form of a template, compiling it if it isn't cached.
+     *
+     * @param text The raw template.
+     * @return the compiled template.
+     */
+    public CompiledTemplate get(final @NotNull String text) {
+        if (this.maximumSize <= 0) {
+            this.misses.increment();
+            return CompiledTemplate.compile(text);
+        }
+
+        CompiledTemplate template;
+        synchronized (this.templates) {
+            template = this.templates.get(text);
+        }
+
+        if (template != null) {
+            this.hits.increment();
+            return template;
+        }
+
+        this.misses.increment();
+        template = CompiledTemplate.compile(text);
+        synchronized (this.templates) {
+            this.templates.put(text, template);
+        }
+        return template;
+    }
+
+    /**
+     * Changes the maximum amount of cached templates and clears the cache.
+     *
+     * @param maximumSize The maximum amount of templates to keep, 0 disables caching.
+     */
+    public void resize(final int maximumSize) {
+        synchronized (this.templates) {
+            this.maximumSize = maximumSize;
+            this.templates.clear();
+        }
+    }
+
+    /**
+     * Retrieves the amount of cached templates.
+     *
+     * @return the current size of the cache.
+     */
+    public int size() {
+        synchronized (this.templates) {
+            return this.templates.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+}
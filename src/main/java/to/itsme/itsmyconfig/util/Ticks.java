@@ -0,0 +1,49 @@
+package to.itsme.itsmyconfig.util;
+
+import com.tcoded.folialib.wrapper.task.WrappedTask;
+
+/**
+ * Keeps count of the server ticks that passed since the plugin was enabled.
+ * <br>
+ * Reading the current tick is lock-free, so it can be used from netty and async threads.
+ */
+public final class Ticks {
+
+    private static volatile long current;
+    private static WrappedTask task;
+
+    /**
+     * Starts counting ticks, does nothing if already started.
+     */
+    public static synchronized void start() {
+        if (task == null) {
+            task = Scheduler.runTimer(Ticks::increment, 1, 1);
+        }
+    }
+
+    /**
+     * Stops counting ticks.
+     */
+    public static synchronized void stop() {
+        if (task != null) {
+            Scheduler.cancelTask(task);
+            task = null;
+        }
+    }
+
+    /**
+     * Retrieves the current tick.
+     *
+     * @return the amount of ticks since the counter was started.
+     */
+    public static long current() {
+        return current;
+    }
+
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    private static void increment() {
+        // only ever written by the timer task
+        current++;
+    }
+
+}
@@ -0,0 +1,148 @@
+package to.itsme.itsmyconfig.util;
+
+import java.util.UUID;
+
+/**
+ * A map of player unique ids to primitive longs, stored in flat arrays.
+ * <br>
+ * Entries cost a few dozen bytes each, without any boxed key, value or node object.
+ * Collisions are resolved by linear probing, removals shift the following entries back so no tombstone is left.
+ */
+public final class UUIDLongMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] most, least, values;
+    private boolean[] used;
+    private int size, mask;
+
+    public UUIDLongMap() {
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Retrieves the value of a key, storing the given value first if the key is missing.
+     *
+     * @param key The unique id.
+     * @param value The value to store if the key is missing.
+     * @return the current value of the key.
+     */
+    public synchronized long putIfAbsent(
+            final UUID key,
+            final long value
+    ) {
+        final long most = key.getMostSignificantBits(), least = key.getLeastSignificantBits();
+        int index = index(most, least, this.mask);
+        while (this.used[index]) {
+            if (this.most[index] == most && this.least[index] == least) {
+                return this.values[index];
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.used[index] = true;
+        this.most[index] = most;
+        this.least[index] = least;
+        this.values[index] = value;
+        if (++this.size * 4 > this.used.length * 3) {
+            this.resize(this.used.length * 2);
+        }
+        return value;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The unique id.
+     */
+    public synchronized void remove(final UUID key) {
+        final long most = key.getMostSignificantBits(), least = key.getLeastSignificantBits();
+        int index = index(most, least, this.mask);
+        while (this.used[index]) {
+            if (this.most[index] == most && this.least[index] == least) {
+                this.delete(index);
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    /**
+     * Removes every key.
+     */
+    public synchronized void clear() {
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    private void delete(int hole) {
+        this.used[hole] = false;
+        this.size--;
+
+        int index = hole;
+        while (true) {
+            index = (index + 1) & this.mask;
+            if (!this.used[index]) {
+                return;
+            }
+
+            // entries whose probe starts within (hole, index] are still reachable where they are
+            final int home = index(this.most[index], this.least[index], this.mask);
+            if (hole <= index ? hole < home && home <= index : hole < home || home <= index) {
+                continue;
+            }
+
+            this.used[hole] = true;
+            this.most[hole] = this.most[index];
+            this.least[hole] = this.least[index];
+            this.values[hole] = this.values[index];
+            this.used[index] = false;
+            hole = index;
+        }
+    }
+
+    private void resize(final int capacity) {
+        final long[] most = this.most, least = this.least, values = this.values;
+        final boolean[] used = this.used;
+        this.allocate(capacity);
+
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i]) {
+                continue;
+            }
+
+            int index = index(most[i], least[i], this.mask);
+            while (this.used[index]) {
+                index = (index + 1) & this.mask;
+            }
+            this.used[index] = true;
+            this.most[index] = most[i];
+            this.least[index] = least[i];
+            this.values[index] = values[i];
+            this.size++;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.most = new long[capacity];
+        this.least = new long[capacity];
+        this.values = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    private static int index(
+            final long most,
+            final long least,
+            final int mask
+    ) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+}
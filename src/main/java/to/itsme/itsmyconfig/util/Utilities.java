@@ -10,13 +10,11 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.intellij.lang.annotations.Subst;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import to.itsme.itsmyconfig.ItsMyConfig;
-import to.itsme.itsmyconfig.font.Font;
-import to.itsme.itsmyconfig.font.FontTag;
+import to.itsme.itsmyconfig.font.FontResolver;
 import to.itsme.itsmyconfig.placeholder.Placeholder;
 import to.itsme.itsmyconfig.placeholder.type.ColorPlaceholder;
 import to.itsme.itsmyconfig.tag.TagManager;
@@ -36,15 +34,10 @@ public final class Utilities {
 
     public static final MiniMessage MM, EMPTY_MM;
 
-    private static final TagResolver FONT_RESOLVER;
+    private static final TagResolver FONT_RESOLVER = new FontResolver();
     private static final Field TEXT_COMPONENT_CONTENT;
 
     static {
-        final TagResolver.Builder builder = TagResolver.builder();
-        for (final @Subst("") Font font : Font.values()) {
-            builder.tag(font.getName(), new FontTag(font));
-        }
-        FONT_RESOLVER = builder.build();
         MM = MiniMessage.builder()
                 .tags(
                         TagResolver.builder()
@@ -102,16 +95,41 @@ public final class Utilities {
             final Player player,
             final TagResolver... placeholders
     ) {
+        return translate(plugin.getTemplateCache().get(text), player, placeholders);
+    }
+
+    /**
+     * Translates an already compiled text into a component
+     *
+     * @param template The compiled text to translate, from the template cache.
+     * @param player The player translated-for.
+     * @return The translated component.
+     */
+    public static Component translate(
+            final CompiledTemplate template,
+            final Player player,
+            final TagResolver... placeholders
+    ) {
+        final boolean reusable = template.isStatic() && placeholders.length == 0;
+        if (reusable) {
+            final Component cached = template.getComponent();
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final String processed = template.hasArgumentTags() ? TagManager.process(player, template.getText()) : template.getText();
         final Component translated = EMPTY_MM.deserialize(
-                TagManager.process(
-                        player, Strings.quote(text)
-                ),
+                processed,
                 itsMyConfigTag(player), papiTag(player),
                 FONT_RESOLVER, StandardTags.defaults(),
                 TagResolver.resolver(placeholders)
         );
 
         applyChatColors(translated);
+        if (reusable) {
+            template.setComponent(translated);
+        }
         return translated;
     }
 
@@ -0,0 +1,167 @@
+package to.itsme.itsmyconfig.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@link NumberFormatter} against the calls it replaces, over seeded random values.
+ */
+class NumberFormatterTest {
+
+    private static final int VALUES = 2_000;
+
+    private static final double[] EDGE_CASES = {
+            0.0, -0.0, 0.5, -0.5, 1.5, 2.5, -2.5, 0.125, 2.675, 1.005, 0.1, 0.3,
+            1e15 + 0.5, 4503599627370495.5, 4503599627370497.0, 9007199254740993.0,
+            1e-201, 1e-199, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE
+    };
+
+    private static final NavigableMap<Long, String> SUFFIXES = new TreeMap<>();
+
+    static {
+        SUFFIXES.put(1_000L, "K");
+        SUFFIXES.put(1_000_000L, "M");
+        SUFFIXES.put(1_000_000_000L, "B");
+        SUFFIXES.put(1_000_000_000_000L, "T");
+        SUFFIXES.put(1_000_000_000_000_000L, "Q");
+    }
+
+    @Test
+    void plainMatchesBigDecimal() {
+        final Random random = new Random(22);
+        for (final RoundingMode mode : RoundingMode.values()) {
+            for (int precision = 0; precision <= 18; precision++) {
+                for (final double value : EDGE_CASES) {
+                    assertPlain(value, precision, mode);
+                }
+                for (int i = 0; i < VALUES; i++) {
+                    assertPlain(randomValue(random), precision, mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void fixedAndCommasMatchDecimalFormat() {
+        final DecimalFormat fixed = new DecimalFormat("#"), commas = new DecimalFormat("#,###");
+        final Random random = new Random(22);
+        for (int i = 0; i < VALUES * 50; i++) {
+            final double value = i < EDGE_CASES.length ? EDGE_CASES[i] : randomValue(random);
+            assertEquals(fixed.format(value), NumberFormatter.fixed(value), () -> "fixed " + value);
+            assertEquals(commas.format(value), NumberFormatter.commas(value), () -> "commas " + value);
+        }
+
+        for (final double value : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            assertEquals(fixed.format(value), NumberFormatter.fixed(value), () -> "fixed " + value);
+            assertEquals(commas.format(value), NumberFormatter.commas(value), () -> "commas " + value);
+        }
+    }
+
+    @Test
+    void suffixedMatchesPreviousFormatting() {
+        final long[] edgeCases = {0, 999, 1000, 1050, 1100, 9999, 10_000, 99_999, 100_000, 999_999, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (final long value : edgeCases) {
+            assertEquals(formatNumber(value), NumberFormatter.suffixed(value, SUFFIXES), () -> "suffixed " + value);
+            assertEquals(formatNumber(-value), NumberFormatter.suffixed(-value, SUFFIXES), () -> "suffixed " + -value);
+        }
+
+        final Random random = new Random(22);
+        for (int i = 0; i < VALUES * 50; i++) {
+            final long value = random.nextLong() >> random.nextInt(64);
+            assertEquals(formatNumber(value), NumberFormatter.suffixed(value, SUFFIXES), () -> "suffixed " + value);
+        }
+    }
+
+    private static void assertPlain(
+            final double value,
+            final int precision,
+            final RoundingMode mode
+    ) {
+        assertEquals(
+                outcome(() -> new BigDecimal(value).setScale(precision, mode).stripTrailingZeros().toPlainString()),
+                outcome(() -> NumberFormatter.plain(value, precision, mode)),
+                () -> "plain " + value + " at precision " + precision + " " + mode
+        );
+    }
+
+    /**
+     * Runs a formatting call, returning the exception type it failed with (UNNECESSARY on inexact values).
+     */
+    private static String outcome(final Supplier<String> call) {
+        try {
+            return call.get();
+        } catch (final ArithmeticException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * Generates values around the rounding boundaries and across the range of doubles.
+     */
+    private static double randomValue(final Random random) {
+        final double value;
+        switch (random.nextInt(8)) {
+            case 0:
+                value = random.nextDouble() * Math.pow(10, random.nextInt(30) - 12) * (random.nextBoolean() ? 1 : -1);
+                break;
+            case 1:
+                value = Double.longBitsToDouble(random.nextLong());
+                break;
+            case 2:
+                // short decimals, the typical config and placeholder input
+                value = (random.nextInt(2_000_001) - 1_000_000) / Math.pow(10, random.nextInt(8));
+                break;
+            case 3:
+                value = (random.nextInt(20_001) - 10_000) + 0.5;
+                break;
+            case 4:
+                value = (random.nextLong() % (1L << 53)) / (double) (1L << random.nextInt(60));
+                break;
+            case 5:
+                value = (random.nextInt(200_001) - 100_000) / 1000.0 + 0.0005;
+                break;
+            case 6:
+                value = Math.rint(random.nextGaussian() * 1e6);
+                break;
+            default:
+                value = random.nextGaussian() * Math.pow(10, random.nextInt(20) - 5);
+                break;
+        }
+        return Double.isFinite(value) ? value : 0;
+    }
+
+    /**
+     * The suffix formatting of the math placeholder before {@link NumberFormatter#suffixed(long, NavigableMap)}.
+     */
+    private static String formatNumber(final long balance) {
+        if (balance == Long.MIN_VALUE) {
+            return formatNumber(Long.MIN_VALUE + 1);
+        }
+        if (balance < 0) {
+            return "-" + formatNumber(-balance);
+        }
+
+        if (balance < 1000) {
+            return Long.toString(balance);
+        }
+
+        final Map.Entry<Long, String> e = SUFFIXES.floorEntry(balance);
+        final Long divideBy = e.getKey();
+        final String suffix = e.getValue();
+
+        final long truncated = balance / (divideBy / 10);
+        final boolean hasDecimal = truncated < 100 && (truncated / 10d) != (truncated / 10);
+        return hasDecimal ? (truncated / 10d) + suffix : (truncated / 10) + suffix;
+    }
+
+}